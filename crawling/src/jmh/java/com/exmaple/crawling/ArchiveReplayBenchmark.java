@@ -0,0 +1,89 @@
+package com.exmaple.crawling;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * 아카이브 재파싱 비용: mmap 세그먼트에서 gzip 레코드를 풀고 추출기까지 돌리는 경로.
+ * 픽스처 기사를 URL만 바꿔 여러 건 기록한 임시 아카이브를 쓰므로 네트워크 없이 돈다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class ArchiveReplayBenchmark {
+    private static final int RECORDS = 100;
+
+    private Path dir;
+    private CrawlArchive archive;
+    private List<CrawlArchive.Entry> entries;
+    private final DaumExtractor daum = new DaumExtractor();
+    private final NaverExtractor naver = new NaverExtractor();
+
+    @Setup
+    public void setUp() throws IOException {
+        dir = Files.createTempDirectory("crawl-archive-bench");
+        CrawlProperties props = new CrawlProperties();
+        props.getArchive().setDir(dir.toString());
+        props.getArchive().setMode(CrawlProperties.Archive.Mode.RECORD);
+        archive = new CrawlArchive(props);
+
+        byte[] daumHtml = fixture("daum-article.html");
+        byte[] naverHtml = fixture("naver-article.html");
+        for (int i = 0; i < RECORDS; i++) {
+            if (i % 2 == 0) {
+                archive.append(CrawlArchive.Kind.ARTICLE, "daum", "economy",
+                        new FetchedPage("https://v.daum.net/v/2025101609" + i, daumHtml, "UTF-8"));
+            } else {
+                archive.append(CrawlArchive.Kind.ARTICLE, "naver", "economy",
+                        new FetchedPage("https://n.news.naver.com/mnews/article/001/" + i, naverHtml, "UTF-8"));
+            }
+        }
+        archive.close();
+        entries = List.copyOf(archive.latestEntries());
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        try (Stream<Path> files = Files.walk(dir)) {
+            files.sorted(Comparator.reverseOrder()).forEach(p -> p.toFile().delete());
+        }
+    }
+
+    /** 레코드 하나 읽기 (mmap 조각 → gunzip → WARC 헤더 분리) */
+    @Benchmark
+    public FetchedPage readRecord() throws IOException {
+        return archive.read(entries.get(0));
+    }
+
+    /** 아카이브 전체를 코어 수만큼 병렬로 재파싱. 점수 × RECORDS × 1000 = 초당 기사 수 */
+    @Benchmark
+    public long replayAllParallel() {
+        return entries.parallelStream().map(this::parse).filter(Objects::nonNull).count();
+    }
+
+    private News parse(CrawlArchive.Entry e) {
+        try {
+            FetchedPage page = archive.read(e);
+            return e.source().equals("daum") ? daum.parse(page, e.category()) : naver.parse(page, e.category());
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    private static byte[] fixture(String name) throws IOException {
+        try (InputStream in = ArchiveReplayBenchmark.class.getResourceAsStream("/fixtures/" + name)) {
+            if (in == null) throw new IOException("missing fixture " + name);
+            return in.readAllBytes();
+        }
+    }
+}
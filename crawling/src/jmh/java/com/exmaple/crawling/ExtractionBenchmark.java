@@ -0,0 +1,159 @@
+package com.exmaple.crawling;
+
+import org.jsoup.nodes.Document;
+import org.jsoup.nodes.Element;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 기사 한 건마다 도는 추출 경로 벤치마크. 입력은 src/jmh/resources/fixtures의 저장된 HTML뿐이라 오프라인으로 돈다.
+ * parse* 벤치마크는 Jsoup DOM 생성까지 포함한 기사 1건 처리 비용이고, 나머지는 이미 만든 DOM 위의 개별 추출기 비용.
+ * 실행: ./gradlew jmh (특정 벤치마크만: -PjmhIncludes=ExtractionBenchmark.parseDaum.*)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class ExtractionBenchmark {
+
+    private final DaumExtractor daum = new DaumExtractor();
+    private final NaverExtractor naver = new NaverExtractor();
+
+    private FetchedPage daumArticle;
+    private FetchedPage daumArticleNoJsonLd;
+    private FetchedPage daumList;
+    private FetchedPage naverArticle;
+    private FetchedPage naverList;
+
+    // 변경하지 않는 추출기용으로 미리 만든 DOM
+    private Document daumDoc;
+    private Element daumContainer;
+    private Element naverBody;
+    private Document daumListDoc;
+    private Document naverListDoc;
+
+    private String daumThumbUrl;
+    private String naverDesktopUrl;
+
+    @Setup
+    public void setUp() throws IOException {
+        daumArticle = fixture("daum-article.html", "https://v.daum.net/v/20251016093012345");
+        daumArticleNoJsonLd = fixture("daum-article-nojsonld.html", "https://v.daum.net/v/20251016093012346");
+        daumList = fixture("daum-list.html", "https://news.daum.net/economy");
+        naverArticle = fixture("naver-article.html", "https://n.news.naver.com/mnews/article/001/0014567890");
+        naverList = fixture("naver-list.html",
+                "https://news.naver.com/main/list.naver?mode=LSD&mid=sec&sid1=101&date=20251016&page=1");
+
+        daumDoc = daumArticle.parse();
+        daumContainer = daumDoc.selectFirst("#harmonyContainer");
+        naverBody = naverArticle.parse().selectFirst("#dic_area");
+        daumListDoc = daumList.parse();
+        naverListDoc = naverList.parse();
+
+        daumThumbUrl = daumContainer.selectFirst("img").attr("abs:src");
+        naverDesktopUrl = "https://news.naver.com/main/read.naver?mode=LSD&mid=sec&sid1=101&oid=001&aid=0014567890";
+
+        // 픽스처가 추출 규칙과 어긋나면 빈 결과를 재는 셈이 되므로 먼저 확인
+        check(daum.parse(daumArticle.parse(), "economy"), "daum-article.html", true);
+        check(daum.parse(daumArticleNoJsonLd.parse(), "economy"), "daum-article-nojsonld.html", true);
+        // 빠른 경로는 DOM 경로와 같은 결과여야 비교가 의미 있다
+        News dom = daum.parse(daumArticle.parse(), "economy");
+        News fast = daum.parseFast(daumArticle, "economy");
+        if (fast == null || !fast.getContent().equals(dom.getContent()) || !fast.getTitle().equals(dom.getTitle())
+                || !fast.getAuthor().equals(dom.getAuthor())) {
+            throw new IllegalStateException("fast path disagrees with DOM path: daum-article.html");
+        }
+        // 네이버 사진은 .end_photo_org 안에 있어 파서가 지운 뒤 이미지를 모은다 (collectNaverImages는 따로 잰다)
+        check(naver.parse(naverArticle.parse(), "economy"), "naver-article.html", false);
+    }
+
+    private static void check(News n, String fixture, boolean expectImages) {
+        if (n == null || n.getTitle() == null || (expectImages && n.getImages().isEmpty())) {
+            throw new IllegalStateException("fixture no longer matches extractor: " + fixture);
+        }
+    }
+
+    private static FetchedPage fixture(String name, String url) throws IOException {
+        try (InputStream in = ExtractionBenchmark.class.getResourceAsStream("/fixtures/" + name)) {
+            if (in == null) throw new UncheckedIOException(new IOException("missing fixture " + name));
+            return new FetchedPage(url, in.readAllBytes(), "UTF-8");
+        }
+    }
+
+    // ----- 기사 1건 전체 (DOM 생성 + 추출) -----
+
+    @Benchmark
+    public News parseDaumArticle() throws IOException {
+        return daum.parse(daumArticle.parse(), "economy");
+    }
+
+    /** 파이프라인이 실제로 부르는 경로: meta/JSON-LD만 훑고 DOM은 만들지 않는다 */
+    @Benchmark
+    public News parseDaumArticleFastPath() throws IOException {
+        return daum.parse(daumArticle, "economy");
+    }
+
+    /** JSON-LD가 없어 빠른 경로가 실패한 뒤 DOM으로 넘어가는 비용 */
+    @Benchmark
+    public News parseDaumArticleDomFallback() throws IOException {
+        return daum.parse(daumArticleNoJsonLd, "economy");
+    }
+
+    @Benchmark
+    public News parseNaverArticle() throws IOException {
+        return naver.parse(naverArticle.parse(), "economy");
+    }
+
+    @Benchmark
+    public Document jsoupParseBaseline() throws IOException {
+        return daumArticle.parse();
+    }
+
+    // ----- 개별 추출기 -----
+
+    @Benchmark
+    public String extractBodyFromJsonLd() {
+        return daum.extractBodyFromJsonLd(daumDoc);
+    }
+
+    @Benchmark
+    public List<String> collectImages() {
+        return DaumExtractor.collectImages(daumContainer);
+    }
+
+    @Benchmark
+    public List<String> collectNaverImages() {
+        return NaverExtractor.collectNaverImages(naverBody);
+    }
+
+    @Benchmark
+    public String unthumbDaum() {
+        return DaumExtractor.unthumbDaum(daumThumbUrl);
+    }
+
+    @Benchmark
+    public String toNaverMobileUrl() {
+        return UrlCanonicalizer.toNaverMobileUrl(naverDesktopUrl);
+    }
+
+    @Benchmark
+    public String findNextPageUrl() {
+        return daum.nextListUrl(daumListDoc, daumListDoc.location(), 2, true);
+    }
+
+    // ----- 목록 페이지 링크 추출 -----
+
+    @Benchmark
+    public List<String> daumListLinks() {
+        return daum.extractLinks(daumListDoc);
+    }
+
+    @Benchmark
+    public List<String> naverListLinks() {
+        return naver.extractLinks(naverListDoc);
+    }
+}
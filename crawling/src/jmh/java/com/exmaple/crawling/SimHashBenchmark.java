@@ -0,0 +1,46 @@
+package com.exmaple.crawling;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/** 중복 판별 비용: parse 단계의 지문 계산, persist 직전의 100만 건 인덱스 조회 */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class SimHashBenchmark {
+    private static final int INDEXED = 1_000_000;
+
+    private String body;
+    private SimHashIndex index;
+    private long[] probes;
+    private int next;
+
+    @Setup
+    public void setUp() throws IOException {
+        try (InputStream in = SimHashBenchmark.class.getResourceAsStream("/fixtures/daum-article.html")) {
+            if (in == null) throw new IOException("missing fixture daum-article.html");
+            FetchedPage page = new FetchedPage("https://v.daum.net/v/20251016093012345", in.readAllBytes(), "UTF-8");
+            body = new DaumExtractor().parse(page, "economy").getContent();
+        }
+        SplittableRandom rnd = new SplittableRandom(1);
+        index = new SimHashIndex();
+        for (int i = 0; i < INDEXED; i++) index.add(rnd.nextLong(), i);
+        probes = new long[1024];
+        for (int i = 0; i < probes.length; i++) probes[i] = rnd.nextLong();
+    }
+
+    @Benchmark
+    public Long fingerprintArticle() {
+        return SimHash.of(body, 200);
+    }
+
+    /** 대부분 못 찾는(새 기사) 경우: 4개 밴드 버킷을 모두 훑는다 */
+    @Benchmark
+    public Long findInMillionEntryIndex() {
+        return index.find(probes[next++ & (probes.length - 1)], SimHashIndex.MAX_DISTANCE);
+    }
+}
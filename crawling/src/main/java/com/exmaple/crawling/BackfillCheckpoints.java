@@ -0,0 +1,68 @@
+package com.exmaple.crawling;
+
+import jakarta.transaction.Transactional;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/** 백필 조각의 진행 상태를 DB에 남긴다. 재시작하면 DONE이 아닌 조각을 nextPage부터 이어서 돈다 */
+@Component
+@RequiredArgsConstructor
+public class BackfillCheckpoints {
+    private final BackfillPartitionRepository repo;
+
+    /** 날짜 범위 × 카테고리 조각들. 처음 보는 조각은 PENDING으로 만든다. 최근 날짜부터 */
+    @Transactional
+    public List<BackfillPartition> open(String source, Collection<String> categories, LocalDate from, LocalDate to) {
+        Map<String, BackfillPartition> existing = new HashMap<>();
+        for (BackfillPartition p : repo.findBySourceAndListDateBetween(source, from, to)) {
+            existing.put(p.getCategory() + "/" + p.getListDate(), p);
+        }
+        List<BackfillPartition> all = new ArrayList<>();
+        List<BackfillPartition> created = new ArrayList<>();
+        for (LocalDate d = from; !d.isAfter(to); d = d.plusDays(1)) {
+            for (String category : categories) {
+                BackfillPartition p = existing.get(category + "/" + d);
+                if (p == null) {
+                    p = new BackfillPartition();
+                    p.setSource(source);
+                    p.setCategory(category);
+                    p.setListDate(d);
+                    p.setUpdatedAt(Instant.now());
+                    created.add(p);
+                }
+                all.add(p);
+            }
+        }
+        repo.saveAll(created);
+        all.sort(Comparator.comparing(BackfillPartition::getListDate).reversed()
+                .thenComparing(BackfillPartition::getCategory));
+        return all;
+    }
+
+    /** 목록 한 페이지의 기사를 모두 저장한 뒤에 호출 */
+    @Transactional
+    public void pageDone(BackfillPartition p, int nextPage, int saved) {
+        p.setNextPage(nextPage);
+        p.setSaved(p.getSaved() + saved);
+        p.setLastError(null);
+        p.setUpdatedAt(Instant.now());
+        repo.save(p);
+    }
+
+    @Transactional
+    public void finish(BackfillPartition p, BackfillPartition.Status status, String error) {
+        p.setStatus(status);
+        p.setLastError(error == null || error.length() <= 512 ? error : error.substring(0, 512));
+        p.setUpdatedAt(Instant.now());
+        repo.save(p);
+    }
+}
@@ -0,0 +1,36 @@
+package com.exmaple.crawling;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.time.Instant;
+import java.time.LocalDate;
+
+/** 과거 목록 백필의 한 조각: (source, category, 목록 날짜). 끝난 페이지까지를 체크포인트로 남긴다 */
+@Entity
+@Getter
+@Setter
+@Table(name = "backfill_partition",
+        uniqueConstraints = @UniqueConstraint(columnNames = {"source", "category", "list_date"}))
+public class BackfillPartition {
+    public enum Status { PENDING, DONE, FAILED }
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.AUTO)
+    private Long id;
+    private String source;
+    private String category;
+    @Column(name = "list_date")
+    private LocalDate listDate;
+    /** 다음에 받을 목록 페이지. 그 앞 페이지들의 기사는 모두 저장을 마쳤다 */
+    private int nextPage = 1;
+    /** 이 조각에서 저장한 기사 수 (누적) */
+    private int saved;
+    @Enumerated(EnumType.STRING)
+    @Column(length = 16)
+    private Status status = Status.PENDING;
+    @Column(length = 512)
+    private String lastError;
+    private Instant updatedAt;
+}
@@ -0,0 +1,12 @@
+package com.exmaple.crawling;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Repository
+public interface BackfillPartitionRepository extends JpaRepository<BackfillPartition, Long> {
+    List<BackfillPartition> findBySourceAndListDateBetween(String source, LocalDate from, LocalDate to);
+}
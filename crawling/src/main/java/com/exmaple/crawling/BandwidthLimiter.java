@@ -0,0 +1,56 @@
+package com.exmaple.crawling;
+
+import org.springframework.stereotype.Component;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.util.concurrent.TimeUnit;
+
+/** 전역 수신 대역폭 예산. 응답 본문을 읽는 만큼 시간 슬롯을 예약해 평균 속도를 맞춘다 */
+@Component
+public class BandwidthLimiter {
+    private final long bytesPerSecond;
+    private long nextFree = System.nanoTime();
+
+    public BandwidthLimiter(CrawlProperties props) {
+        this.bytesPerSecond = props.getFetch().getGlobalBytesPerSecond();
+    }
+
+    public InputStream wrap(InputStream in) {
+        if (bytesPerSecond <= 0) return in;
+        return new FilterInputStream(in) {
+            @Override
+            public int read() throws IOException {
+                int b = super.read();
+                if (b >= 0) consume(1);
+                return b;
+            }
+
+            @Override
+            public int read(byte[] buf, int off, int len) throws IOException {
+                int n = super.read(buf, off, len);
+                if (n > 0) consume(n);
+                return n;
+            }
+        };
+    }
+
+    private void consume(int bytes) throws InterruptedIOException {
+        long wait;
+        synchronized (this) {
+            long now = System.nanoTime();
+            long start = Math.max(now, nextFree);
+            nextFree = start + TimeUnit.SECONDS.toNanos(bytes) / bytesPerSecond;
+            wait = start - now;
+        }
+        if (wait <= 0) return;
+        try {
+            TimeUnit.NANOSECONDS.sleep(wait);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("bandwidth wait interrupted");
+        }
+    }
+}
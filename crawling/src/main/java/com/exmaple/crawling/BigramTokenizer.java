@@ -0,0 +1,51 @@
+package com.exmaple.crawling;
+
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * 검색용 토크나이저. 형태소 분석 없이 한글·한자 구간은 글자 bigram("기준금리" → 기준, 준금, 금리),
+ * 영문·숫자 구간은 소문자 단어 하나로 자른다. 한 글자 구간은 그 글자 자체가 토큰.
+ * 조사가 붙어도("금리를") bigram 대부분이 겹쳐서 별도 사전 없이 부분 일치 검색이 된다.
+ */
+final class BigramTokenizer {
+    private BigramTokenizer() {}
+
+    /** 토큰별 출현 수 (weight배로 센다) */
+    static void count(String text, int weight, Map<String, Integer> out) {
+        if (text == null) return;
+        int end = text.length();
+
+        int i = 0;
+        while (i < end) {
+            char c = text.charAt(i);
+            if (isCjk(c)) {
+                int start = i;
+                while (i < end && isCjk(text.charAt(i))) i++;
+                if (i - start == 1) {
+                    out.merge(String.valueOf(c), weight, Integer::sum);
+                } else {
+                    for (int k = start; k + 1 < i; k++) out.merge(text.substring(k, k + 2), weight, Integer::sum);
+                }
+            } else if (Character.isLetterOrDigit(c)) {
+                int start = i;
+                while (i < end && Character.isLetterOrDigit(text.charAt(i)) && !isCjk(text.charAt(i))) i++;
+                out.merge(text.substring(start, i).toLowerCase(Locale.ROOT), weight, Integer::sum);
+            } else {
+                i++;
+            }
+        }
+    }
+
+    static Map<String, Integer> tokens(String text) {
+        Map<String, Integer> out = new HashMap<>();
+        count(text, 1, out);
+        return out;
+    }
+
+    private static boolean isCjk(char c) {
+        Character.UnicodeScript s = Character.UnicodeScript.of(c);
+        return s == Character.UnicodeScript.HANGUL || s == Character.UnicodeScript.HAN;
+    }
+}
@@ -0,0 +1,69 @@
+package com.exmaple.crawling;
+
+import java.io.IOException;
+
+/**
+ * 호스트 단위 회로 차단기. 연속 실패가 threshold에 닿으면 openNanos 동안 요청을 막고(OPEN),
+ * 그 뒤 한 요청만 시험 삼아 보낸다(HALF_OPEN). 시험이 성공하면 CLOSED, 실패하면 다시 OPEN.
+ * 시험 요청이 결과 없이 끝나면(인터럽트, 파싱 예외 등) release()로 시험 자리를 돌려줘야 한다.
+ */
+public class CircuitBreaker {
+    public enum State { CLOSED, OPEN, HALF_OPEN }
+
+    private final int threshold;
+    private final long openNanos;
+    private State state = State.CLOSED;
+    private int failures;
+    private long openedAt;
+    private boolean trialInFlight;
+
+    public CircuitBreaker(int threshold, long openNanos) {
+        this.threshold = Math.max(1, threshold);
+        this.openNanos = openNanos;
+    }
+
+    /** 요청 전에 호출. 막혀 있으면 OpenException, 이 요청이 HALF_OPEN 시험 요청이면 true */
+    public synchronized boolean check(String host) throws OpenException {
+        if (state == State.OPEN) {
+            if (System.nanoTime() - openedAt < openNanos) throw new OpenException(host);
+            state = State.HALF_OPEN;
+            trialInFlight = false;
+        }
+        if (state == State.HALF_OPEN) {
+            if (trialInFlight) throw new OpenException(host);
+            trialInFlight = true;
+            return true;
+        }
+        return false;
+    }
+
+    /** 시험 요청이 onSuccess/onFailure 없이 끝났을 때: 상태는 그대로 두고 다음 요청이 시험할 수 있게 한다 */
+    public synchronized void release() {
+        if (state == State.HALF_OPEN) trialInFlight = false;
+    }
+
+    public synchronized void onSuccess() {
+        state = State.CLOSED;
+        failures = 0;
+        trialInFlight = false;
+    }
+
+    public synchronized void onFailure() {
+        failures++;
+        if (state == State.HALF_OPEN || failures >= threshold) {
+            state = State.OPEN;
+            openedAt = System.nanoTime();
+            trialInFlight = false;
+        }
+    }
+
+    public synchronized State state() {
+        return state;
+    }
+
+    public static class OpenException extends IOException {
+        public OpenException(String host) {
+            super("circuit open for " + host);
+        }
+    }
+}
@@ -0,0 +1,285 @@
+package com.exmaple.crawling;
+
+import jakarta.annotation.PreDestroy;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedWriter;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 수집한 원본 응답의 추가 전용 아카이브 (WARC 형식).
+ * 세그먼트 파일(crawl-00001.warc.gz)은 레코드마다 독립된 gzip 멤버를 이어 붙인 표준 .warc.gz이고,
+ * 옆의 .idx 파일에 레코드마다 한 줄(오프셋, 길이, 종류, source, category, charset, URL, 최종 URL)을 남긴다.
+ * URL은 요청한 URL(리플레이 조회 키), 최종 URL은 리다이렉트 뒤 본문이 실제로 온 곳으로 WARC-Target-URI에 쓴다.
+ * 읽기는 세그먼트를 mmap 해 두고 인덱스의 오프셋으로 바로 찾아가므로 여러 스레드가 동시에 읽을 수 있다.
+ */
+@Component
+public class CrawlArchive {
+    public enum Kind { LIST, ARTICLE }
+
+    /** 인덱스 한 줄 = 레코드 하나. location은 리다이렉트 뒤 최종 URL */
+    public record Entry(int segment, long offset, int length, Kind kind,
+                        String source, String category, String charset, String url, String location) {
+
+        String toLine() {
+            return offset + "\t" + length + "\t" + kind + "\t" + source + "\t" + category + "\t"
+                    + (charset == null ? "" : charset) + "\t" + url + "\t" + location;
+        }
+
+        /** 최종 URL 열이 없는 옛 인덱스 줄은 요청 URL을 최종 URL로 본다 */
+        static Entry parse(int segment, String line) {
+            String[] f = line.split("\t", 8);
+            return new Entry(segment, Long.parseLong(f[0]), Integer.parseInt(f[1]), Kind.valueOf(f[2]),
+                    f[3], f[4], f[5].isEmpty() ? null : f[5], f[6], f.length > 7 ? f[7] : f[6]);
+        }
+    }
+
+    private static final String SEGMENT_PREFIX = "crawl-";
+    private static final String SEGMENT_SUFFIX = ".warc.gz";
+    private static final String INDEX_SUFFIX = ".idx";
+
+    private final Path dir;
+    private final long segmentBytes;
+    private final CrawlProperties.Archive.Mode mode;
+
+    // 쓰기 상태 (append는 synchronized)
+    private FileChannel out;
+    private BufferedWriter indexOut;
+    private int segment;
+    private long position;
+
+    private final Map<Integer, MappedByteBuffer> mapped = new ConcurrentHashMap<>();
+    private volatile Map<String, Entry> latestByUrl;
+
+    public CrawlArchive(CrawlProperties props) {
+        CrawlProperties.Archive cfg = props.getArchive();
+        this.dir = Path.of(cfg.getDir());
+        this.segmentBytes = Math.min(cfg.getSegmentBytes(), Integer.MAX_VALUE);
+        this.mode = cfg.getMode();
+    }
+
+    public boolean recording() {
+        return mode == CrawlProperties.Archive.Mode.RECORD;
+    }
+
+    public boolean replaying() {
+        return mode == CrawlProperties.Archive.Mode.REPLAY;
+    }
+
+    /** 레코드 하나를 현재 세그먼트 끝에 붙인다. 세그먼트가 차면 다음 파일로 넘어간다 */
+    public synchronized Entry append(Kind kind, String source, String category, FetchedPage page) throws IOException {
+        byte[] record = gzipRecord(page);
+        if (out == null || (position > 0 && position + record.length > segmentBytes)) rollOver();
+
+        ByteBuffer buf = ByteBuffer.wrap(record);
+        while (buf.hasRemaining()) out.write(buf);
+        Entry e = new Entry(segment, position, record.length, kind, source, category, page.charset(),
+                page.url(), page.location());
+        position += record.length;
+        // 데이터가 먼저 써진 뒤에 인덱스를 남긴다: 중간에 죽어도 인덱스가 없는 레코드만 생긴다
+        indexOut.write(e.toLine());
+        indexOut.newLine();
+        indexOut.flush();
+
+        Map<String, Entry> byUrl = latestByUrl;
+        if (byUrl != null) byUrl.put(e.url(), e);
+        return e;
+    }
+
+    /** 모든 세그먼트의 인덱스 (세그먼트·기록 순) */
+    public List<Entry> entries() throws IOException {
+        if (!Files.isDirectory(dir)) return List.of();
+        List<Entry> all = new ArrayList<>();
+        for (int seg : segments()) {
+            long size = Files.size(segmentPath(seg));
+            try (Stream<String> lines = Files.lines(indexPath(seg), StandardCharsets.UTF_8)) {
+                lines.filter(l -> !l.isBlank())
+                        .map(l -> Entry.parse(seg, l))
+                        .filter(e -> e.offset() + e.length() <= size) // 기록 중 끊긴 레코드 제외
+                        .forEach(all::add);
+            }
+        }
+        return all;
+    }
+
+    /** URL별 가장 마지막 레코드. 재파싱·리플레이 응답에 쓴다 */
+    public Collection<Entry> latestEntries() throws IOException {
+        return latestByUrl().values();
+    }
+
+    /** 리플레이: 이 URL로 기록된 마지막 응답 */
+    public Optional<FetchedPage> find(String url) throws IOException {
+        Entry e = latestByUrl().get(url);
+        return e == null ? Optional.empty() : Optional.of(read(e));
+    }
+
+    /** mmap된 세그먼트에서 레코드를 풀어 원본 응답으로 */
+    public FetchedPage read(Entry e) throws IOException {
+        ByteBuffer slice = mapping(e).slice((int) e.offset(), e.length());
+        try (InputStream in = new GZIPInputStream(new ByteBufferInputStream(slice), 8192)) {
+            byte[] record = in.readAllBytes();
+            int bodyStart = indexOf(record, "\r\n\r\n".getBytes(StandardCharsets.US_ASCII)) + 4;
+            int bodyLength = contentLength(record, bodyStart);
+            byte[] body = new byte[bodyLength];
+            System.arraycopy(record, bodyStart, body, 0, bodyLength);
+            return new FetchedPage(e.url(), body, e.charset(), e.location());
+        }
+    }
+
+    @PreDestroy
+    public synchronized void close() throws IOException {
+        if (out != null) {
+            out.close();
+            indexOut.close();
+            out = null;
+        }
+    }
+
+    private Map<String, Entry> latestByUrl() throws IOException {
+        Map<String, Entry> byUrl = latestByUrl;
+        if (byUrl == null) {
+            synchronized (this) {
+                if (latestByUrl == null) {
+                    Map<String, Entry> m = new LinkedHashMap<>();
+                    for (Entry e : entries()) {
+                        m.remove(e.url()); // 다시 기록된 URL은 뒤로 (기록 순서 유지)
+                        m.put(e.url(), e);
+                    }
+                    latestByUrl = new ConcurrentHashMap<>(m);
+                }
+                byUrl = latestByUrl;
+            }
+        }
+        return byUrl;
+    }
+
+    /**
+     * 세그먼트 전체를 한 번 매핑해 두고 재사용. 기록 중인 세그먼트는 파일이 자라므로
+     * 레코드가 기존 매핑 밖에 있으면 다시 매핑한다.
+     */
+    private MappedByteBuffer mapping(Entry e) throws IOException {
+        MappedByteBuffer m = mapped.get(e.segment());
+        if (m != null && e.offset() + e.length() <= m.capacity()) return m;
+        try (FileChannel ch = FileChannel.open(segmentPath(e.segment()), StandardOpenOption.READ)) {
+            m = ch.map(FileChannel.MapMode.READ_ONLY, 0, ch.size());
+        }
+        mapped.put(e.segment(), m);
+        return m;
+    }
+
+    private void rollOver() throws IOException {
+        close();
+        Files.createDirectories(dir);
+        List<Integer> existing = segments();
+        segment = existing.isEmpty() ? 1 : existing.get(existing.size() - 1) + 1;
+        out = FileChannel.open(segmentPath(segment), StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE);
+        indexOut = Files.newBufferedWriter(indexPath(segment), StandardCharsets.UTF_8,
+                StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE);
+        position = 0;
+    }
+
+    private List<Integer> segments() throws IOException {
+        try (Stream<Path> files = Files.list(dir)) {
+            return files.map(p -> p.getFileName().toString())
+                    .filter(n -> n.startsWith(SEGMENT_PREFIX) && n.endsWith(SEGMENT_SUFFIX))
+                    .map(n -> Integer.parseInt(n.substring(SEGMENT_PREFIX.length(), n.length() - SEGMENT_SUFFIX.length())))
+                    .filter(seg -> Files.exists(indexPath(seg)))
+                    .sorted()
+                    .toList();
+        }
+    }
+
+    private Path segmentPath(int seg) {
+        return dir.resolve(String.format("%s%05d%s", SEGMENT_PREFIX, seg, SEGMENT_SUFFIX));
+    }
+
+    private Path indexPath(int seg) {
+        return dir.resolve(String.format("%s%05d%s", SEGMENT_PREFIX, seg, INDEX_SUFFIX));
+    }
+
+    /** WARC resource 레코드 하나 (헤더 + 본문 + 빈 줄 둘)를 독립 gzip 멤버로 */
+    private static byte[] gzipRecord(FetchedPage page) throws IOException {
+        String header = "WARC/1.1\r\n"
+                + "WARC-Type: resource\r\n"
+                + "WARC-Record-ID: <urn:uuid:" + UUID.randomUUID() + ">\r\n"
+                + "WARC-Date: " + Instant.now() + "\r\n"
+                + "WARC-Target-URI: " + page.location() + "\r\n"
+                + "Content-Type: text/html" + (page.charset() == null ? "" : "; charset=" + page.charset()) + "\r\n"
+                + "Content-Length: " + page.body().length + "\r\n\r\n";
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(page.body().length / 4 + 256);
+        try (GZIPOutputStream gz = new GZIPOutputStream(bytes, 8192)) {
+            gz.write(header.getBytes(StandardCharsets.UTF_8));
+            gz.write(page.body());
+            gz.write("\r\n\r\n".getBytes(StandardCharsets.US_ASCII));
+        }
+        return bytes.toByteArray();
+    }
+
+    private static int contentLength(byte[] record, int headerEnd) {
+        String header = new String(record, 0, headerEnd, StandardCharsets.UTF_8);
+        for (String line : header.split("\r\n")) {
+            if (line.regionMatches(true, 0, "Content-Length:", 0, 15)) {
+                return Integer.parseInt(line.substring(15).trim());
+            }
+        }
+        throw new UncheckedIOException(new IOException("WARC record without Content-Length"));
+    }
+
+    private static int indexOf(byte[] b, byte[] needle) {
+        outer:
+        for (int i = 0, last = b.length - needle.length; i <= last; i++) {
+            for (int k = 0; k < needle.length; k++) if (b[i + k] != needle[k]) continue outer;
+            return i;
+        }
+        throw new UncheckedIOException(new IOException("malformed WARC record"));
+    }
+
+    /** mmap 조각을 GZIPInputStream에 넘기기 위한 얇은 래퍼 (복사 없음) */
+    private static final class ByteBufferInputStream extends InputStream {
+        private final ByteBuffer buf;
+
+        ByteBufferInputStream(ByteBuffer buf) {
+            this.buf = buf;
+        }
+
+        @Override
+        public int read() {
+            return buf.hasRemaining() ? buf.get() & 0xff : -1;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) {
+            if (!buf.hasRemaining()) return -1;
+            int n = Math.min(len, buf.remaining());
+            buf.get(b, off, n);
+            return n;
+        }
+
+        @Override
+        public int available() {
+            return buf.remaining();
+        }
+    }
+}
@@ -0,0 +1,66 @@
+package com.exmaple.crawling;
+
+import jakarta.transaction.Transactional;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Stream;
+
+/**
+ * 이미 저장된 기사 URL 판별. Bloom filter가 "처음 본다"고 하면 DB 조회 없이 통과,
+ * "아마도 봤다"고 하면 sourceUrl 유니크 인덱스로 한 번에 확인한다.
+ * 목록 페이지 단계에서 걸러내므로 알려진 기사는 HTTP 요청 자체가 나가지 않는다.
+ */
+@Component
+@RequiredArgsConstructor
+public class CrawlFrontier {
+    private final NewsRepository repo;
+    private final CrawlProperties props;
+    private volatile UrlBloomFilter bloom;
+
+    /** 시작 시 News.sourceUrl 전체로 예열 */
+    @Transactional
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        CrawlProperties.Frontier cfg = props.getFrontier();
+        UrlBloomFilter f = new UrlBloomFilter(cfg.getExpectedUrls(), cfg.getFalsePositiveRate());
+        try (Stream<String> urls = repo.streamSourceUrls()) {
+            urls.forEach(f::add);
+        }
+        bloom = f;
+    }
+
+    /** 정규화된 URL 목록 중 아직 저장되지 않은 것만 (순서 유지) */
+    public List<String> filterUnknown(List<String> canonicalUrls) {
+        UrlBloomFilter f = bloom;
+        List<String> maybeKnown = new ArrayList<>();
+        for (String u : canonicalUrls) {
+            if (f == null || f.mightContain(u)) maybeKnown.add(u);
+        }
+        if (maybeKnown.isEmpty()) return canonicalUrls;
+
+        Set<String> known = new HashSet<>(repo.findExistingSourceUrls(maybeKnown));
+        if (known.isEmpty()) return canonicalUrls;
+        List<String> unknown = new ArrayList<>(canonicalUrls.size() - known.size());
+        for (String u : canonicalUrls) {
+            if (!known.contains(u)) unknown.add(u);
+        }
+        return unknown;
+    }
+
+    /** persist 단계에서 저장 직후 호출 */
+    public void markKnown(Collection<News> saved) {
+        UrlBloomFilter f = bloom;
+        if (f == null) return; // 예열 전이면 DB 확인 경로를 탄다
+        for (News n : saved) {
+            if (n.getSourceUrl() != null) f.add(n.getSourceUrl());
+        }
+    }
+}
@@ -0,0 +1,130 @@
+package com.exmaple.crawling;
+
+import lombok.Getter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/** 비동기 수집 작업 하나. 진행 상황을 세고 구독 중인 SSE로 흘려보낸다 */
+@Getter
+public class CrawlJob implements CrawlListener {
+    public enum Status { QUEUED, RUNNING, SUCCEEDED, FAILED, CANCELLED }
+
+    /** 실제 수집 내용 (source/category에 맞는 NewsService 호출) */
+    @FunctionalInterface
+    public interface Task {
+        List<Long> run(CrawlListener listener) throws Exception;
+    }
+
+    private final String id;
+    private final String description;
+    private final Instant createdAt = Instant.now();
+    private volatile Status status = Status.QUEUED;
+    private volatile Instant startedAt;
+    private volatile Instant finishedAt;
+    private volatile String currentPage;
+    private volatile String error;
+    private volatile List<Long> savedIds = List.of();
+    private final AtomicInteger saved = new AtomicInteger();
+    private final AtomicInteger failures = new AtomicInteger();
+    private final List<SseEmitter> emitters = new CopyOnWriteArrayList<>();
+    private volatile Future<?> future;
+
+    public CrawlJob(String id, String description) {
+        this.id = id;
+        this.description = description;
+    }
+
+    void attach(Future<?> future) {
+        this.future = future;
+    }
+
+    /** 워커 스레드에서 실행 */
+    void execute(Task task) {
+        if (status == Status.CANCELLED) return;
+        status = Status.RUNNING;
+        startedAt = Instant.now();
+        publish("progress");
+        try {
+            savedIds = task.run(this);
+            status = Status.SUCCEEDED;
+        } catch (InterruptedException e) {
+            status = Status.CANCELLED;
+        } catch (Exception e) {
+            status = Thread.currentThread().isInterrupted() ? Status.CANCELLED : Status.FAILED;
+            error = e.getMessage();
+        } finally {
+            finishedAt = Instant.now();
+            publish("done");
+            emitters.forEach(SseEmitter::complete);
+            emitters.clear();
+        }
+    }
+
+    /** 대기 중이면 바로 취소, 실행 중이면 인터럽트로 파이프라인을 멈춘다 */
+    boolean cancel() {
+        if (isFinished()) return false;
+        if (status == Status.QUEUED) {
+            status = Status.CANCELLED;
+            finishedAt = Instant.now();
+            publish("done");
+            emitters.forEach(SseEmitter::complete);
+        }
+        Future<?> f = future;
+        if (f != null) f.cancel(true);
+        return true;
+    }
+
+    public boolean isFinished() {
+        return status == Status.SUCCEEDED || status == Status.FAILED || status == Status.CANCELLED;
+    }
+
+    void subscribe(SseEmitter emitter) {
+        emitters.add(emitter);
+        emitter.onCompletion(() -> emitters.remove(emitter));
+        emitter.onTimeout(() -> emitters.remove(emitter));
+        emitter.onError(e -> emitters.remove(emitter));
+        send(emitter, isFinished() ? "done" : "progress");
+        if (isFinished()) emitter.complete();
+    }
+
+    public CrawlJobStatus snapshot() {
+        return new CrawlJobStatus(id, description, status, saved.get(), failures.get(), currentPage,
+                error, createdAt, startedAt, finishedAt, isFinished() ? savedIds : null);
+    }
+
+    @Override
+    public void onPage(String listUrl) {
+        currentPage = listUrl;
+        publish("progress");
+    }
+
+    @Override
+    public void onSaved(int count) {
+        saved.addAndGet(count);
+        publish("progress");
+    }
+
+    @Override
+    public void onFailure(String url, String message) {
+        failures.incrementAndGet();
+        publish("progress");
+    }
+
+    private void publish(String event) {
+        for (SseEmitter e : emitters) send(e, event);
+    }
+
+    private void send(SseEmitter emitter, String event) {
+        try {
+            emitter.send(SseEmitter.event().name(event).data(snapshot()));
+        } catch (IOException | IllegalStateException e) {
+            emitters.remove(emitter);
+        }
+    }
+}
@@ -0,0 +1,120 @@
+package com.exmaple.crawling;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.time.LocalDate;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.RejectedExecutionException;
+
+@RestController
+@RequestMapping("/crawling/jobs")
+@RequiredArgsConstructor
+public class CrawlJobController {
+    private final CrawlJobService jobService;
+    private final NewsService newsService;
+    private final SiteExtractorRegistry extractors;
+    private final ArchiveReplayService replayService;
+    private final NaverBackfillService backfillService;
+    private final NaverExtractor naver;
+
+    /** 작업 등록 후 바로 202 + 작업 ID. source는 등록된 SiteExtractor 이름 (daum / naver) */
+    @PostMapping
+    public ResponseEntity<CrawlJobStatus> submit(@RequestParam(defaultValue = "daum") String source,
+                                                 @RequestParam(defaultValue = "economy") String category,
+                                                 @RequestParam(defaultValue = "5") int limit,
+                                                 @RequestParam(defaultValue = "false") boolean incremental) {
+        int want = Math.max(1, limit);
+        if (extractors.find(source).isEmpty()) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "unknown source: " + source);
+        }
+        return accepted(source + "/" + category + " limit=" + want,
+                l -> newsService.crawl(source, category, want, incremental, l));
+    }
+
+    /** 전체 수집을 작업으로. 결과 ID는 모든 (source, category) 합계 */
+    @PostMapping("/all")
+    public ResponseEntity<CrawlJobStatus> submitAll(@RequestParam(defaultValue = "5") int limit,
+                                                    @RequestParam(defaultValue = "false") boolean incremental) {
+        int want = Math.max(1, limit);
+        return accepted("all limit=" + want, l -> newsService.crawlAll(want, incremental, l).stream()
+                .flatMap(r -> r.savedIds().stream())
+                .toList());
+    }
+
+    /** 아카이브(crawler.archive)에 기록된 기사를 현재 추출 규칙으로 다시 파싱해 반영. source 생략 시 전체 */
+    @PostMapping("/replay")
+    public ResponseEntity<CrawlJobStatus> replay(@RequestParam(required = false) String source) {
+        if (source != null && extractors.find(source).isEmpty()) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "unknown source: " + source);
+        }
+        return accepted("replay " + (source == null ? "all" : source), l -> replayService.reparse(source, l));
+    }
+
+    /**
+     * 네이버 과거 목록 백필 (from~to, 날짜 포함). category 생략 시 전체.
+     * 같은 범위로 다시 등록하면 DB 체크포인트에서 끝나지 않은 조각만 이어서 돈다.
+     */
+    @PostMapping("/backfill")
+    public ResponseEntity<CrawlJobStatus> backfill(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(required = false) List<String> category) {
+        Set<String> categories = category == null || category.isEmpty()
+                ? new TreeSet<>(naver.categories()) : new TreeSet<>(category);
+        if (from.isAfter(to)) throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "from is after to");
+        if (!naver.categories().containsAll(categories)) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "unknown category: " + categories);
+        }
+        return accepted("naver backfill " + from + ".." + to + " " + categories,
+                l -> backfillService.backfill(categories, from, to, l));
+    }
+
+    @GetMapping
+    public List<CrawlJobStatus> list() {
+        return jobService.list().stream()
+                .sorted(Comparator.comparing(CrawlJob::getCreatedAt).reversed())
+                .map(CrawlJob::snapshot)
+                .toList();
+    }
+
+    @GetMapping("/{id}")
+    public CrawlJobStatus status(@PathVariable String id) {
+        return job(id).snapshot();
+    }
+
+    /** 진행 상황 스트림: progress 이벤트 반복 후 done 이벤트로 종료 */
+    @GetMapping(value = "/{id}/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter events(@PathVariable String id) {
+        return jobService.subscribe(job(id));
+    }
+
+    @DeleteMapping("/{id}")
+    public CrawlJobStatus cancel(@PathVariable String id) {
+        CrawlJob job = job(id);
+        jobService.cancel(id);
+        return job.snapshot();
+    }
+
+    ResponseEntity<CrawlJobStatus> accepted(String description, CrawlJob.Task task) {
+        try {
+            return ResponseEntity.status(HttpStatus.ACCEPTED).body(jobService.submit(description, task).snapshot());
+        } catch (RejectedExecutionException e) {
+            throw new ResponseStatusException(HttpStatus.TOO_MANY_REQUESTS, "crawl job queue is full");
+        }
+    }
+
+    private CrawlJob job(String id) {
+        return jobService.find(id)
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "no such job: " + id));
+    }
+}
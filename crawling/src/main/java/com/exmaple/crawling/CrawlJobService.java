@@ -0,0 +1,84 @@
+package com.exmaple.crawling;
+
+import jakarta.annotation.PreDestroy;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 수집 작업을 요청 스레드와 분리해 실행한다.
+ * 동시에 돌아가는 작업 수는 crawler.jobs.max-concurrent, 대기열은 queue-capacity로 제한.
+ */
+@Service
+public class CrawlJobService {
+    private final CrawlProperties.Jobs cfg;
+    private final ThreadPoolExecutor executor;
+    private final Map<String, CrawlJob> jobs = new ConcurrentHashMap<>();
+
+    public CrawlJobService(CrawlProperties props) {
+        this.cfg = props.getJobs();
+        int n = Math.max(1, cfg.getMaxConcurrent());
+        this.executor = new ThreadPoolExecutor(n, n, 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(Math.max(1, cfg.getQueueCapacity())),
+                Thread.ofVirtual().name("crawl-job-", 0).factory());
+    }
+
+    /** 대기열이 가득 차면 RejectedExecutionException */
+    public CrawlJob submit(String description, CrawlJob.Task task) {
+        CrawlJob job = new CrawlJob(UUID.randomUUID().toString(), description);
+        jobs.put(job.getId(), job);
+        try {
+            job.attach(executor.submit(() -> job.execute(task)));
+        } catch (RejectedExecutionException e) {
+            jobs.remove(job.getId());
+            throw e;
+        }
+        evictFinished();
+        return job;
+    }
+
+    public Optional<CrawlJob> find(String id) {
+        return Optional.ofNullable(jobs.get(id));
+    }
+
+    public Collection<CrawlJob> list() {
+        return jobs.values();
+    }
+
+    public boolean cancel(String id) {
+        CrawlJob job = jobs.get(id);
+        return job != null && job.cancel();
+    }
+
+    public SseEmitter subscribe(CrawlJob job) {
+        SseEmitter emitter = new SseEmitter(cfg.getSseTimeoutMillis());
+        job.subscribe(emitter);
+        return emitter;
+    }
+
+    /** 끝난 작업은 최근 retain개만 남긴다 */
+    private void evictFinished() {
+        int excess = jobs.size() - cfg.getRetain();
+        if (excess <= 0) return;
+        jobs.values().stream()
+                .filter(CrawlJob::isFinished)
+                .sorted(Comparator.comparing(CrawlJob::getCreatedAt))
+                .limit(excess)
+                .forEach(j -> jobs.remove(j.getId()));
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdownNow();
+    }
+}
@@ -0,0 +1,18 @@
+package com.exmaple.crawling;
+
+import java.time.Instant;
+import java.util.List;
+
+/** 작업 상태 응답/SSE 페이로드. savedIds는 끝난 작업에만 채운다 */
+public record CrawlJobStatus(String id,
+                             String description,
+                             CrawlJob.Status status,
+                             int saved,
+                             int failures,
+                             String currentPage,
+                             String error,
+                             Instant createdAt,
+                             Instant startedAt,
+                             Instant finishedAt,
+                             List<Long> savedIds) {
+}
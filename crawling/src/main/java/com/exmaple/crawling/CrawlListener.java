@@ -0,0 +1,15 @@
+package com.exmaple.crawling;
+
+/** 수집 진행 상황 콜백. 파이프라인 여러 스레드에서 호출되므로 구현은 thread-safe 해야 한다 */
+public interface CrawlListener {
+    CrawlListener NONE = new CrawlListener() {};
+
+    /** 목록 페이지 하나를 가져왔을 때 */
+    default void onPage(String listUrl) {}
+
+    /** 배치가 저장됐을 때 (이번에 저장된 수) */
+    default void onSaved(int count) {}
+
+    /** 기사 하나를 가져오거나 파싱·저장하지 못했을 때 */
+    default void onFailure(String url, String message) {}
+}
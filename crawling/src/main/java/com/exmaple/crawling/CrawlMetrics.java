@@ -0,0 +1,137 @@
+package com.exmaple.crawling;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 수집 단계별 지표 (/actuator/prometheus).
+ * fetch 지연(호스트·상태 코드별 히스토그램)과 호스트 슬롯 대기, parse 시간(추출기별), persist 배치 시간,
+ * 파이프라인 큐 깊이, 저장 기사 수(rate로 초당 기사 수), 중복 판정 결과, 재시도 횟수.
+ * 태그 조합마다 미터를 한 번만 만들어 두고 재사용해 fetch 경로에서 레지스트리 조회를 반복하지 않는다.
+ */
+@Component
+public class CrawlMetrics {
+    public static final String IO_ERROR = "io";
+
+    private final MeterRegistry registry;
+    private final Map<String, Timer> fetchTimers = new ConcurrentHashMap<>();
+    private final Map<String, Timer> waitTimers = new ConcurrentHashMap<>();
+    private final Map<String, Timer> parseTimers = new ConcurrentHashMap<>();
+    private final Map<String, Timer> persistTimers = new ConcurrentHashMap<>();
+    private final Map<String, Counter> counters = new ConcurrentHashMap<>();
+    private final DistributionSummary batchSizes;
+    /** 실행 중인 파이프라인들의 단계별 큐. 게이지는 이들의 크기 합 */
+    private final Map<String, Set<BlockingQueue<?>>> queues = new ConcurrentHashMap<>();
+
+    public CrawlMetrics(MeterRegistry registry) {
+        this.registry = registry;
+        this.batchSizes = DistributionSummary.builder("crawler.persist.batch.size")
+                .description("persist 배치당 기사 수")
+                .register(registry);
+        for (String stage : List.of("urls", "pages", "parsed")) {
+            Set<BlockingQueue<?>> active = ConcurrentHashMap.newKeySet();
+            queues.put(stage, active);
+            Gauge.builder("crawler.pipeline.queue.size", active, CrawlMetrics::totalSize)
+                    .description("파이프라인 단계 사이 큐에 쌓인 항목 수")
+                    .tag("stage", stage)
+                    .register(registry);
+        }
+    }
+
+    /** 응답 하나(재시도는 각각). status는 HTTP 상태 코드, 연결·타임아웃 오류면 IO_ERROR */
+    public void fetch(String host, String status, long startNanos) {
+        fetchTimers.computeIfAbsent(host + '|' + status, k -> Timer.builder("crawler.fetch")
+                .description("요청 전송부터 본문을 다 읽을 때까지")
+                .tag("host", host)
+                .tag("status", status)
+                .publishPercentileHistogram()
+                .register(registry)).record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+    }
+
+    /** HostThrottle의 호스트·전역 슬롯을 얻기까지 기다린 시간 */
+    public void throttleWait(String host, long startNanos) {
+        waitTimers.computeIfAbsent(host, k -> Timer.builder("crawler.fetch.wait")
+                .description("호스트 한도 대기")
+                .tag("host", host)
+                .register(registry)).record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+    }
+
+    public void retry(String host, String reason) {
+        counter("crawler.fetch.retries", "host", host, "reason", reason).increment();
+    }
+
+    public void parse(String source, long startNanos) {
+        parseTimers.computeIfAbsent(source, k -> Timer.builder("crawler.parse")
+                .description("기사 한 건 추출 + 지문 계산")
+                .tag("source", source)
+                .publishPercentileHistogram()
+                .register(registry)).record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+    }
+
+    /** mode: batch(한 트랜잭션) 또는 single(배치 실패 후 한 건씩) */
+    public void persist(String mode, int size, long startNanos) {
+        persistTimers.computeIfAbsent(mode, k -> Timer.builder("crawler.persist")
+                .description("persist 배치 저장(커밋 포함)")
+                .tag("mode", mode)
+                .publishPercentileHistogram()
+                .register(registry)).record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+        batchSizes.record(size);
+    }
+
+    public void saved(String source, int n) {
+        if (n > 0) counter("crawler.articles.saved", "source", source, null, null).increment(n);
+    }
+
+    /** 지문이 있는 기사마다: 이미 있는 기사와 거의 같았는지 */
+    public void dedup(boolean duplicate) {
+        counter("crawler.dedup", "result", duplicate ? "duplicate" : "unique", null, null).increment();
+    }
+
+    public void failure(String stage) {
+        counter("crawler.failures", "stage", stage, null, null).increment();
+    }
+
+    /** 파이프라인 실행 동안 큐 깊이 게이지에 포함. 닫으면 빠진다 */
+    public Tracking trackQueues(BlockingQueue<?> urls, BlockingQueue<?> pages, BlockingQueue<?> parsed) {
+        queues.get("urls").add(urls);
+        queues.get("pages").add(pages);
+        queues.get("parsed").add(parsed);
+        return () -> {
+            queues.get("urls").remove(urls);
+            queues.get("pages").remove(pages);
+            queues.get("parsed").remove(parsed);
+        };
+    }
+
+    public interface Tracking extends AutoCloseable {
+        @Override
+        void close();
+    }
+
+    private Counter counter(String name, String k1, String v1, String k2, String v2) {
+        String key = name + '|' + v1 + '|' + v2;
+        return counters.computeIfAbsent(key, k -> {
+            Counter.Builder b = Counter.builder(name).tag(k1, v1);
+            if (k2 != null) b.tag(k2, v2);
+            return b.register(registry);
+        });
+    }
+
+    private static double totalSize(Collection<BlockingQueue<?>> active) {
+        int n = 0;
+        for (BlockingQueue<?> q : active) n += q.size();
+        return n;
+    }
+}
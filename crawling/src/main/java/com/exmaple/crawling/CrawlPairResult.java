@@ -0,0 +1,12 @@
+package com.exmaple.crawling;
+
+import java.util.List;
+
+/** 전체 수집에서 (source, category) 한 쌍의 결과 */
+public record CrawlPairResult(String source,
+                              String category,
+                              int saved,
+                              List<Long> savedIds,
+                              String error,
+                              long elapsedMillis) {
+}
@@ -0,0 +1,217 @@
+package com.exmaple.crawling;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 목록 탐색 → 기사 fetch → parse → persist 4단계 파이프라인.
+ * 단계 사이는 bounded queue로 연결되어 뒤 단계가 밀리면 앞 단계가 put에서 멈춘다(backpressure).
+ * DB는 persist 단계(NewsWriter)만 만지므로 네트워크 대기 중에는 커넥션을 잡지 않는다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CrawlPipeline {
+    private final PageFetcher fetcher;
+    private final NewsWriter writer;
+    private final CrawlProperties props;
+    private final CrawlMetrics metrics;
+
+    /** 목록 페이지를 돌며 기사 URL을 sink에 흘려보낸다 */
+    @FunctionalInterface
+    public interface LinkDiscovery {
+        void discover(LinkSink sink) throws Exception;
+    }
+
+    public interface LinkSink {
+        /** 큐가 차 있으면 대기. 파이프라인이 멈췄으면 false */
+        boolean offer(String url) throws InterruptedException;
+
+        boolean isStopped();
+    }
+
+    @FunctionalInterface
+    public interface ArticleParser {
+        News parse(FetchedPage page) throws Exception;
+    }
+
+    // 단계 종료 신호
+    private static final String END_URL = "\0end";
+    private static final FetchedPage END_PAGE = new FetchedPage("", new byte[0], null);
+    private static final News END_NEWS = new News();
+
+    /** want개 저장되면 나머지 단계를 중단하고 저장된 ID를 돌려준다 */
+    public List<Long> run(LinkDiscovery discovery, ArticleParser parser, int timeoutMillis,
+                          int want, String failTag) throws InterruptedException {
+        return run(discovery, parser, timeoutMillis, want, failTag, CrawlListener.NONE);
+    }
+
+    /** 호출 스레드가 인터럽트되면(작업 취소) 모든 단계를 멈추고 InterruptedException */
+    public List<Long> run(LinkDiscovery discovery, ArticleParser parser, int timeoutMillis,
+                          int want, String failTag, CrawlListener listener) throws InterruptedException {
+        CrawlProperties.Pipeline cfg = props.getPipeline();
+        int fetchWorkers = props.getFetch().isConcurrent() ? Math.max(1, cfg.getFetchWorkers()) : 1;
+        int parseWorkers = Math.max(1, cfg.getParseWorkers());
+
+        BlockingQueue<String> urls = new ArrayBlockingQueue<>(cfg.getQueueCapacity());
+        BlockingQueue<FetchedPage> pages = new ArrayBlockingQueue<>(cfg.getQueueCapacity());
+        BlockingQueue<News> parsed = new ArrayBlockingQueue<>(cfg.getQueueCapacity());
+        AtomicBoolean stopped = new AtomicBoolean();
+        AtomicInteger fetchersLeft = new AtomicInteger(fetchWorkers);
+        AtomicInteger parsersLeft = new AtomicInteger(parseWorkers);
+
+        List<Long> saved = new ArrayList<>();
+        ExecutorService pool = Executors.newVirtualThreadPerTaskExecutor();
+        CrawlMetrics.Tracking tracking = metrics.trackQueues(urls, pages, parsed);
+        try {
+            // 1) 목록 탐색
+            pool.submit(() -> {
+                try {
+                    discovery.discover(new LinkSink() {
+                        @Override
+                        public boolean offer(String url) throws InterruptedException {
+                            if (stopped.get()) return false;
+                            urls.put(url);
+                            return true;
+                        }
+
+                        @Override
+                        public boolean isStopped() {
+                            return stopped.get();
+                        }
+                    });
+                } catch (InterruptedException ignored) {
+                } catch (Exception e) {
+                    failed("list", failTag, "list", e);
+                    listener.onFailure("list", e.getMessage());
+                } finally {
+                    putAll(urls, END_URL, fetchWorkers, stopped);
+                }
+            });
+
+            // 2) 기사 fetch
+            for (int i = 0; i < fetchWorkers; i++) {
+                pool.submit(() -> {
+                    try {
+                        for (String url = urls.take(); url != END_URL; url = urls.take()) {
+                            try {
+                                pages.put(fetcher.fetch(url, timeoutMillis));
+                            } catch (InterruptedException e) {
+                                throw e;
+                            } catch (Exception e) {
+                                failed("fetch", failTag, url, e);
+                                listener.onFailure(url, e.getMessage());
+                            }
+                        }
+                    } catch (InterruptedException ignored) {
+                    } finally {
+                        if (fetchersLeft.decrementAndGet() == 0) putAll(pages, END_PAGE, parseWorkers, stopped);
+                    }
+                });
+            }
+
+            // 3) parse
+            for (int i = 0; i < parseWorkers; i++) {
+                pool.submit(() -> {
+                    try {
+                        for (FetchedPage page = pages.take(); page != END_PAGE; page = pages.take()) {
+                            try {
+                                News n = parser.parse(page);
+                                if (n != null) parsed.put(n);
+                            } catch (InterruptedException e) {
+                                throw e;
+                            } catch (Exception e) {
+                                failed("parse", failTag, page.url(), e);
+                                listener.onFailure(page.url(), e.getMessage());
+                            }
+                        }
+                    } catch (InterruptedException ignored) {
+                    } finally {
+                        if (parsersLeft.decrementAndGet() == 0) putAll(parsed, END_NEWS, 1, stopped);
+                    }
+                });
+            }
+
+            // 4) persist (호출 스레드): batch-size까지 모아서 한 트랜잭션으로
+            CrawlProperties.Persist persist = props.getPersist();
+            List<News> batch = new ArrayList<>();
+            boolean end = false;
+            while (!end && saved.size() < want) {
+                News n = parsed.take();
+                if (n == END_NEWS) break;
+                batch.add(n);
+
+                int cap = Math.min(Math.max(1, persist.getBatchSize()), want - saved.size());
+                while (batch.size() < cap) {
+                    News more = parsed.poll(persist.getLingerMillis(), TimeUnit.MILLISECONDS);
+                    if (more == null) break;
+                    if (more == END_NEWS) {
+                        end = true;
+                        break;
+                    }
+                    batch.add(more);
+                }
+                flush(batch, saved, failTag, listener);
+            }
+        } finally {
+            stopped.set(true);
+            pool.shutdownNow();
+            pool.close();
+            tracking.close();
+        }
+        return saved;
+    }
+
+    /** 배치 저장이 실패하면 문제 행만 걸러내도록 한 건씩 다시 저장 */
+    private void flush(List<News> batch, List<Long> saved, String failTag, CrawlListener listener) {
+        int before = saved.size();
+        long start = System.nanoTime();
+        try {
+            saved.addAll(writer.saveAll(batch));
+            metrics.persist("batch", batch.size(), start);
+        } catch (Exception batchError) {
+            start = System.nanoTime();
+            for (News n : batch) {
+                n.resetForRetry();
+                try {
+                    saved.add(writer.save(n));
+                } catch (Exception e) {
+                    failed("persist", failTag, n.getSourceUrl(), e);
+                    listener.onFailure(n.getSourceUrl(), e.getMessage());
+                }
+            }
+            metrics.persist("single", batch.size(), start);
+        }
+        batch.clear();
+        if (saved.size() > before) listener.onSaved(saved.size() - before);
+    }
+
+    private void failed(String stage, String failTag, String url, Exception e) {
+        metrics.failure(stage);
+        log.atWarn().addKeyValue("stage", stage).addKeyValue("job", failTag).addKeyValue("url", url)
+                .addKeyValue("error", e.getMessage()).log("{} failed", stage);
+    }
+
+    /** 다음 단계 워커 수만큼 종료 신호를 넣는다. 파이프라인이 중단됐으면 소비자도 없으니 포기 */
+    private static <T> void putAll(BlockingQueue<T> q, T end, int n, AtomicBoolean stopped) {
+        try {
+            for (int i = 0; i < n; i++) {
+                while (!q.offer(end, 100, TimeUnit.MILLISECONDS)) {
+                    if (stopped.get()) return;
+                }
+            }
+        } catch (InterruptedException ignored) {
+        }
+    }
+}
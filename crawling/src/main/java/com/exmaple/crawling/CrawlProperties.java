@@ -0,0 +1,237 @@
+package com.exmaple.crawling;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/** crawler.* 설정 */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "crawler")
+public class CrawlProperties {
+    private Fetch fetch = new Fetch();
+    private Http http = new Http();
+    private Retry retry = new Retry();
+    private Circuit circuit = new Circuit();
+    private Pipeline pipeline = new Pipeline();
+    private Persist persist = new Persist();
+    private Frontier frontier = new Frontier();
+    private Incremental incremental = new Incremental();
+    private Jobs jobs = new Jobs();
+    private Archive archive = new Archive();
+    private ListCache listCache = new ListCache();
+    private Dedup dedup = new Dedup();
+    private Search search = new Search();
+    private Export export = new Export();
+    private Backfill backfill = new Backfill();
+    private Queue queue = new Queue();
+
+    @Getter
+    @Setter
+    public static class Fetch {
+        /** 기사 상세를 가상 스레드로 동시에 가져올지 여부 (false면 한 건씩) */
+        private boolean concurrent = true;
+        /** hosts에 없는 호스트에 적용할 기본 한도 */
+        private HostLimit defaults = new HostLimit();
+        /** 호스트별 한도 (예: crawler.fetch.hosts[news.daum.net].max-concurrency=4) */
+        private Map<String, HostLimit> hosts = new HashMap<>();
+        private Adaptive adaptive = new Adaptive();
+        /** 모든 호스트 합산 동시 요청 수 (0이면 제한 없음) */
+        private int globalMaxConcurrency = 16;
+        /** 모든 응답 본문 합산 초당 바이트 (0이면 제한 없음) */
+        private long globalBytesPerSecond = 0;
+
+        public HostLimit limitFor(String host) {
+            return hosts.getOrDefault(host, defaults);
+        }
+    }
+
+    @Getter
+    @Setter
+    public static class Http {
+        /** 서버가 지원하면 HTTP/2, 아니면 1.1로 자동 협상 */
+        private boolean http2 = true;
+        private int connectTimeoutMillis = 5000;
+        private String userAgent = "Mozilla/5.0";
+    }
+
+    /** 초당 요청 수 AIMD 조절. 상한은 HostLimit.requestsPerSecond */
+    @Getter
+    @Setter
+    public static class Adaptive {
+        private double minRequestsPerSecond = 0.2;
+        /** 성공 1건마다 더하는 양 */
+        private double increaseStep = 0.05;
+        /** 429/503 때 곱하는 비율 */
+        private double decreaseFactor = 0.5;
+    }
+
+    @Getter
+    @Setter
+    public static class Retry {
+        private int maxAttempts = 4;
+        private long baseDelayMillis = 500;
+        private long maxDelayMillis = 30_000;
+        /** 서버가 이보다 긴 Retry-After를 주면 이 값까지만 기다린다 */
+        private long maxRetryAfterMillis = 120_000;
+    }
+
+    @Getter
+    @Setter
+    public static class Circuit {
+        /** 연속 실패 횟수가 이만큼이면 호스트 차단 */
+        private int failureThreshold = 5;
+        private long openMillis = 30_000;
+    }
+
+    @Getter
+    @Setter
+    public static class Pipeline {
+        /** 단계 사이 큐 크기 (가득 차면 앞 단계가 대기) */
+        private int queueCapacity = 32;
+        /** 기사 fetch 워커 수 (실제 동시 요청은 호스트 한도가 제한) */
+        private int fetchWorkers = 8;
+        /** parse 워커 수 */
+        private int parseWorkers = Runtime.getRuntime().availableProcessors();
+    }
+
+    @Getter
+    @Setter
+    public static class Persist {
+        /** 한 트랜잭션에 묶어 저장할 기사 수 (hibernate.jdbc.batch_size와 맞춘다) */
+        private int batchSize = 50;
+        /** 배치를 채우려고 다음 기사를 기다리는 최대 시간 */
+        private long lingerMillis = 200;
+    }
+
+    @Getter
+    @Setter
+    public static class Frontier {
+        /** Bloom filter 크기 산정용 예상 URL 수 */
+        private long expectedUrls = 1_000_000;
+        /** 허용 오탐률. 오탐은 DB 확인으로 걸러지므로 비용만 늘어난다 */
+        private double falsePositiveRate = 0.01;
+    }
+
+    @Getter
+    @Setter
+    public static class Incremental {
+        /** IncrementalCrawlScheduler 사용 여부 */
+        private boolean enabled = false;
+        /** 한 번 실행에서 (source, category)당 최대 저장 수 */
+        private int maxPerRun = 200;
+    }
+
+    @Getter
+    @Setter
+    public static class Jobs {
+        /** 동시에 실행할 수집 작업 수 */
+        private int maxConcurrent = 2;
+        /** 실행 대기 작업 수. 넘치면 429 */
+        private int queueCapacity = 20;
+        /** 메모리에 남겨둘 작업 수 (끝난 작업부터 정리) */
+        private int retain = 100;
+        private long sseTimeoutMillis = 30 * 60 * 1000L;
+    }
+
+    @Getter
+    @Setter
+    public static class Archive {
+        public enum Mode { OFF, RECORD, REPLAY }
+
+        /** RECORD: 받은 목록/기사 원본을 모두 기록, REPLAY: 네트워크 대신 아카이브에서 응답 */
+        private Mode mode = Mode.OFF;
+        private String dir = "crawl-archive";
+        /** 세그먼트 파일 하나의 최대 크기. 넘으면 다음 파일로 (mmap 한 번에 읽을 수 있게 1GB 이하) */
+        private long segmentBytes = 256L * 1024 * 1024;
+        /** 재파싱 병렬도 */
+        private int replayParallelism = Runtime.getRuntime().availableProcessors();
+    }
+
+    @Getter
+    @Setter
+    public static class ListCache {
+        /** 목록 페이지를 ETag/If-Modified-Since로 재검증 */
+        private boolean enabled = true;
+        /** 캐시에 둘 목록 페이지 본문 합계 상한 */
+        private long maxBytes = 32L * 1024 * 1024;
+    }
+
+    @Getter
+    @Setter
+    public static class Dedup {
+        public enum Mode { OFF, LINK }
+
+        /**
+         * LINK: 본문 없이 duplicateOf로 원본을 가리키는 행만 저장. 사본 URL도 DB에 남으므로 다음 수집에서 프런티어가 건너뛴다
+         * (행을 아예 안 남기면 URL을 기억할 곳이 없어 매번 다시 받게 된다)
+         */
+        private Mode mode = Mode.LINK;
+        /** 같은 기사로 보는 SimHash 해밍 거리 (밴드 인덱스 특성상 최대 3) */
+        private int maxDistance = 3;
+        /** 이보다 짧은 본문은 지문을 만들지 않는다 (짧은 속보끼리 오탐 방지) */
+        private int minChars = 200;
+    }
+
+    @Getter
+    @Setter
+    public static class Search {
+        /** 본문 검색 색인 (/news/search) */
+        private boolean enabled = true;
+        private String dir = "search-index";
+        /** 메모리 버퍼에 이만큼 쌓이면 세그먼트 파일로 내린다 */
+        private int flushDocs = 2000;
+        /** 세그먼트가 이보다 많아지면 최근 것들을 하나로 병합 */
+        private int maxSegments = 8;
+    }
+
+    @Getter
+    @Setter
+    public static class Export {
+        /** 덤프 커서가 DB에서 한 번에 받아오는 행 수 (MySQL은 useCursorFetch=true일 때만 적용) */
+        private int fetchSize = 500;
+    }
+
+    @Getter
+    @Setter
+    public static class Backfill {
+        /** 동시에 도는 (카테고리, 날짜) 조각 수. 실제 요청 속도는 호스트별 한도가 정한다 */
+        private int parallelism = 4;
+        /** 하루치 목록에서 넘길 최대 페이지 (끝 감지가 안 될 때의 안전장치) */
+        private int maxPagesPerDay = 200;
+    }
+
+    @Getter
+    @Setter
+    public static class Queue {
+        /** 이 인스턴스에서 crawl_task 큐 워커를 돌릴지 (등록 API는 항상 열려 있다) */
+        private boolean enabled = false;
+        /** 동시에 임대·처리하는 워커 스레드 수 */
+        private int workers = 8;
+        /** 한 번에 임대하는 작업 수 */
+        private int batchSize = 10;
+        /** 임대 유지 시간. 하트비트가 1/3마다 연장하고, 끊기면 이 시간 뒤 다른 워커가 가져간다 */
+        private int leaseSeconds = 120;
+        /** 이만큼 임대됐는데도 못 끝낸 작업은 FAILED */
+        private int maxAttempts = 3;
+        /** 다시 해볼 실패의 첫 대기 시간. 시도마다 두 배 (기본값은 회로 차단 시간과 같게) */
+        private long retryDelayMillis = 30_000;
+        private long maxRetryDelayMillis = 600_000;
+        /** 큐가 비었을 때 다시 볼 간격 */
+        private long pollMillis = 2000;
+        /** 목록 작업이 따라갈 최대 페이지 */
+        private int maxListPages = 10;
+    }
+
+    @Getter
+    @Setter
+    public static class HostLimit {
+        /** 동시에 열어둘 요청 수 */
+        private int maxConcurrency = 2;
+        /** 초당 요청 수 */
+        private double requestsPerSecond = 2.0;
+    }
+}
@@ -0,0 +1,42 @@
+package com.exmaple.crawling;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.util.List;
+import java.util.Map;
+
+/** 여러 인스턴스가 나눠 처리하는 DB 작업 큐 (crawl_task). 어느 인스턴스에 등록해도 워커가 켜진 인스턴스들이 가져간다 */
+@RestController
+@RequestMapping("/crawling/queue")
+@RequiredArgsConstructor
+public class CrawlQueueController {
+    private final CrawlTaskQueue queue;
+    private final SiteExtractorRegistry extractors;
+
+    /** 카테고리 첫 목록 페이지를 큐에 넣는다. source/category 생략 시 전체 */
+    @PostMapping
+    public Map<CrawlTask.Status, Long> seed(@RequestParam(required = false) String source,
+                                            @RequestParam(required = false) String category) {
+        List<SiteExtractor> targets = source == null ? List.copyOf(extractors.all())
+                : List.of(extractors.find(source).orElseThrow(
+                        () -> new ResponseStatusException(HttpStatus.BAD_REQUEST, "unknown source: " + source)));
+        for (SiteExtractor ex : targets) {
+            for (String c : category == null ? ex.categories() : List.of(category)) {
+                queue.enqueue(CrawlTask.Kind.LIST, ex.source(), c, 1, List.of(ex.firstListUrl(c)));
+            }
+        }
+        return queue.counts();
+    }
+
+    @GetMapping
+    public Map<CrawlTask.Status, Long> counts() {
+        return queue.counts();
+    }
+}
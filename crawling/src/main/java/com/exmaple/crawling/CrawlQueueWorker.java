@@ -0,0 +1,234 @@
+package com.exmaple.crawling;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.jsoup.HttpStatusException;
+import org.jsoup.nodes.Document;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+
+import java.net.InetAddress;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * crawl_task 큐를 처리하는 워커 (crawler.queue.enabled=true인 인스턴스마다).
+ * workers개의 가상 스레드가 각자 batchSize개씩 임대해 처리하고, 하트비트 스레드가 처리 중인 작업의 임대를 연장한다.
+ * 목록 작업은 새 기사 URL과 다음 목록 페이지를 큐에 넣고, 기사 작업은 한 번에 임대한 것끼리 묶어 저장한다.
+ * 요청 속도 한도(HostThrottle)는 인스턴스마다 따로이므로 N대로 늘릴 때는 호스트별 한도를 1/N로 맞춘다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "crawler.queue", name = "enabled", havingValue = "true")
+public class CrawlQueueWorker {
+    private final CrawlTaskQueue queue;
+    private final PageFetcher fetcher;
+    private final NewsService newsService;
+    private final NewsWriter writer;
+    private final CrawlFrontier frontier;
+    private final SiteExtractorRegistry extractors;
+    private final CrawlMetrics metrics;
+    private final CrawlProperties.Queue cfg;
+    private final String owner;
+    private final Set<Long> inFlight = ConcurrentHashMap.newKeySet();
+    private final List<Thread> threads = new ArrayList<>();
+    private volatile boolean running;
+
+    public CrawlQueueWorker(CrawlTaskQueue queue, PageFetcher fetcher, NewsService newsService, NewsWriter writer,
+                            CrawlFrontier frontier, SiteExtractorRegistry extractors, CrawlMetrics metrics,
+                            CrawlProperties props) {
+        this.queue = queue;
+        this.fetcher = fetcher;
+        this.newsService = newsService;
+        this.writer = writer;
+        this.frontier = frontier;
+        this.extractors = extractors;
+        this.metrics = metrics;
+        this.cfg = props.getQueue();
+        this.owner = hostName() + ":" + ProcessHandle.current().pid() + ":" + UUID.randomUUID().toString().substring(0, 8);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void start() {
+        if (running) return;
+        running = true;
+        for (int i = 0; i < Math.max(1, cfg.getWorkers()); i++) {
+            threads.add(Thread.ofVirtual().name("crawl-queue-", i).start(this::work));
+        }
+        threads.add(Thread.ofVirtual().name("crawl-queue-heartbeat").start(this::heartbeat));
+    }
+
+    @PreDestroy
+    public synchronized void stop() throws InterruptedException {
+        running = false;
+        for (Thread t : threads) t.interrupt();
+        for (Thread t : threads) t.join(10_000);
+        threads.clear();
+        // 처리 중이던 작업은 임대 만료 뒤 다른 인스턴스가 가져간다
+    }
+
+    public String owner() {
+        return owner;
+    }
+
+    private Duration leaseFor() {
+        return Duration.ofSeconds(Math.max(1, cfg.getLeaseSeconds()));
+    }
+
+    private void work() {
+        while (running) {
+            try {
+                List<CrawlTask> tasks = queue.lease(owner, Math.max(1, cfg.getBatchSize()), leaseFor());
+                if (tasks.isEmpty()) {
+                    Thread.sleep(cfg.getPollMillis());
+                    continue;
+                }
+                process(tasks);
+            } catch (InterruptedException e) {
+                return;
+            } catch (Exception e) {
+                log.atWarn().addKeyValue("owner", owner).addKeyValue("error", e.getMessage()).log("queue lease failed");
+                try {
+                    Thread.sleep(cfg.getPollMillis());
+                } catch (InterruptedException ie) {
+                    return;
+                }
+            }
+        }
+    }
+
+    /** 임대 시간의 1/3마다 처리 중인 작업 연장 */
+    private void heartbeat() {
+        long every = Math.max(1, leaseFor().toMillis() / 3);
+        while (running) {
+            try {
+                Thread.sleep(every);
+                queue.heartbeat(owner, List.copyOf(inFlight), leaseFor());
+            } catch (InterruptedException e) {
+                return;
+            } catch (Exception e) {
+                log.atWarn().addKeyValue("owner", owner).addKeyValue("error", e.getMessage())
+                        .log("queue heartbeat failed");
+            }
+        }
+    }
+
+    void process(List<CrawlTask> tasks) throws InterruptedException {
+        for (CrawlTask t : tasks) inFlight.add(t.getId());
+        List<News> parsed = new ArrayList<>();
+        List<CrawlTask> parsedTasks = new ArrayList<>();
+        try {
+            for (CrawlTask t : tasks) {
+                if (Thread.currentThread().isInterrupted()) throw new InterruptedException();
+                try {
+                    SiteExtractor ex = extractors.get(t.getSource());
+                    if (t.getKind() == CrawlTask.Kind.LIST) {
+                        processList(t, ex);
+                        queue.complete(owner, List.of(t.getId()));
+                        continue;
+                    }
+                    FetchedPage page = fetcher.fetch(t.getUrl(), ex.articleTimeoutMillis());
+                    News n = newsService.articleParser(ex, t.getCategory()).parse(page);
+                    if (n == null) {
+                        queue.complete(owner, List.of(t.getId())); // 기사가 아닌 페이지
+                    } else {
+                        parsed.add(n);
+                        parsedTasks.add(t);
+                    }
+                } catch (InterruptedException e) {
+                    throw e;
+                } catch (Exception e) {
+                    failed(t, e);
+                }
+            }
+            persist(parsed, parsedTasks);
+        } finally {
+            for (CrawlTask t : tasks) inFlight.remove(t.getId());
+        }
+    }
+
+    /** 목록 한 페이지: 새 기사 URL을 쌓고, 새 기사가 있었으면 다음 페이지도 쌓는다 */
+    private void processList(CrawlTask t, SiteExtractor ex) throws Exception {
+        PageFetcher.ListPage res = newsService.fetchList(t.getUrl(), ex.listTimeoutMillis(), t.getSource(), t.getCategory());
+        Document list = res.page().parse();
+        List<String> unknown = frontier.filterUnknown(List.copyOf(new LinkedHashSet<>(ex.extractLinks(list))));
+        enqueue(CrawlTask.Kind.ARTICLE, t, 0, unknown);
+        if (unknown.isEmpty() || t.getPage() >= cfg.getMaxListPages()) return;
+        String next = ex.nextListUrl(list, t.getUrl(), t.getPage() + 1, true);
+        if (next != null) enqueue(CrawlTask.Kind.LIST, t, t.getPage() + 1, List.of(next));
+    }
+
+    /** 다른 인스턴스와 같은 URL을 동시에 넣다 유니크 제약에 걸리면 한 건씩 다시 */
+    private void enqueue(CrawlTask.Kind kind, CrawlTask from, int page, List<String> urls) {
+        try {
+            queue.enqueue(kind, from.getSource(), from.getCategory(), page, urls);
+        } catch (DataIntegrityViolationException e) {
+            for (String url : urls) {
+                try {
+                    queue.enqueue(kind, from.getSource(), from.getCategory(), page, List.of(url));
+                } catch (DataIntegrityViolationException ignored) {
+                    // 이미 다른 인스턴스가 넣었다
+                }
+            }
+        }
+    }
+
+    /** 한 번에 저장하고, 배치가 실패하면 한 건씩 (CrawlPipeline.flush와 같은 방식) */
+    private void persist(List<News> parsed, List<CrawlTask> tasks) {
+        if (parsed.isEmpty()) return;
+        List<Long> ids = new ArrayList<>(tasks.size());
+        for (CrawlTask t : tasks) ids.add(t.getId());
+        long start = System.nanoTime();
+        try {
+            writer.saveAll(parsed);
+            metrics.persist("batch", parsed.size(), start);
+            queue.complete(owner, ids);
+            return;
+        } catch (Exception batchError) {
+            // 아래에서 한 건씩
+        }
+        start = System.nanoTime();
+        for (int i = 0; i < parsed.size(); i++) {
+            News n = parsed.get(i);
+            CrawlTask t = tasks.get(i);
+            n.resetForRetry();
+            try {
+                writer.save(n);
+                queue.complete(owner, List.of(t.getId()));
+            } catch (DataIntegrityViolationException e) {
+                queue.complete(owner, List.of(t.getId())); // 다른 인스턴스가 먼저 저장한 기사
+            } catch (Exception e) {
+                failed(t, e);
+            }
+        }
+        metrics.persist("single", parsed.size(), start);
+    }
+
+    private void failed(CrawlTask t, Exception e) {
+        String message = e.getMessage() == null ? e.getClass().getSimpleName() : e.getMessage();
+        metrics.failure(t.getKind() == CrawlTask.Kind.LIST ? "list" : "task");
+        log.atWarn().addKeyValue("kind", t.getKind()).addKeyValue("url", t.getUrl()).addKeyValue("attempt", t.getAttempts())
+                .addKeyValue("error", message).log("queue task failed");
+        // 회로가 열려 있거나 일시 장애면 나중에(다른 인스턴스에서라도) 다시
+        boolean retryable = e instanceof HttpStatusException s
+                ? RetryPolicy.isRetryableStatus(s.getStatusCode())
+                : RetryPolicy.isRetryableError(e) || e instanceof CircuitBreaker.OpenException;
+        queue.fail(owner, t.getId(), message, retryable);
+    }
+
+    private static String hostName() {
+        try {
+            return InetAddress.getLocalHost().getHostName();
+        } catch (Exception e) {
+            return "unknown";
+        }
+    }
+}
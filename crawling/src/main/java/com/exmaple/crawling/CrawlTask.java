@@ -0,0 +1,54 @@
+package com.exmaple.crawling;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.time.Instant;
+
+/** 여러 인스턴스가 나눠 처리하는 수집 작업 한 건 (목록 페이지 또는 기사 URL). CrawlTaskQueue 참고 */
+@Entity
+@Getter
+@Setter
+// 임대 쿼리 두 갈래(만료된 LEASED, 때가 된 QUEUED)가 각각 인덱스 범위만 읽도록
+@Table(name = "crawl_task", indexes = {
+        @Index(name = "idx_crawl_task_status_lease", columnList = "status, lease_until, id"),
+        @Index(name = "idx_crawl_task_status_not_before", columnList = "status, not_before, id")
+})
+public class CrawlTask {
+    public enum Kind { LIST, ARTICLE }
+
+    public enum Status { QUEUED, LEASED, DONE, FAILED }
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "crawl_task_seq")
+    @SequenceGenerator(name = "crawl_task_seq", sequenceName = "crawl_task_seq", allocationSize = 50)
+    private Long id;
+    @Enumerated(EnumType.STRING)
+    @Column(length = 8)
+    private Kind kind;
+    private String source;
+    private String category;
+    /** 정규화된 URL. 같은 URL은 한 번만 쌓인다 */
+    @Column(length = 512, unique = true)
+    private String url;
+    /** 목록 작업의 페이지 번호 (1부터). 기사 작업은 0 */
+    private int page;
+    @Enumerated(EnumType.STRING)
+    @Column(length = 8)
+    private Status status = Status.QUEUED;
+    /** 임대된 횟수. maxAttempts를 넘기면 FAILED */
+    private int attempts;
+    /** 임대한 워커 (호스트:pid:임의값) */
+    @Column(name = "lease_owner", length = 96)
+    private String leaseOwner;
+    /** 이 시각까지 하트비트가 없으면 다른 워커가 다시 가져간다 */
+    @Column(name = "lease_until")
+    private Instant leaseUntil;
+    /** QUEUED 작업은 이 시각부터 임대된다. 재시도할 실패면 백오프만큼 뒤로 민다 */
+    @Column(name = "not_before", nullable = false)
+    private Instant notBefore;
+    @Column(length = 512)
+    private String lastError;
+    private Instant createdAt;
+}
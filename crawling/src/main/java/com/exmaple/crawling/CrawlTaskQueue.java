@@ -0,0 +1,217 @@
+package com.exmaple.crawling;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.persistence.EntityManager;
+import jakarta.transaction.Transactional;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * DB 테이블(crawl_task) 위의 작업 큐. 여러 인스턴스가 같은 테이블을 보고 일을 나눈다.
+ * 임대는 SELECT ... FOR UPDATE SKIP LOCKED로 다른 워커가 잡고 있는 행을 건너뛰어 batch개씩 가져오므로
+ * 워커끼리 서로 기다리지 않는다. 임대에는 만료 시각이 있어 하트비트가 끊긴(죽은) 워커의 작업은
+ * 만료 뒤 다른 워커가 다시 가져간다. 완료·실패 처리는 지금 임대한 워커만 할 수 있다.
+ * 다시 해볼 실패는 not_before를 지수 백오프만큼 미뤄 QUEUED로 돌리므로, 회로가 열린 호스트의 작업이
+ * 몇 초 만에 maxAttempts를 다 써 버리지 않는다.
+ */
+@Component
+@RequiredArgsConstructor
+public class CrawlTaskQueue implements MeterBinder {
+    /** 게이지 값은 이 간격 안에서 재사용 (스크레이프마다 집계 쿼리를 돌리지 않게) */
+    private static final long GAUGE_TTL_NANOS = 5_000_000_000L;
+
+    private final EntityManager em;
+    private final CrawlProperties props;
+    private volatile Map<CrawlTask.Status, Long> gaugeCounts = Map.of();
+    private volatile long gaugeAt;
+
+    /**
+     * 처음 보는 URL만 QUEUED로 쌓는다. 목록 페이지는 다시 봐야 하므로 끝난(DONE/FAILED) 행을 QUEUED로 되돌린다.
+     * 다른 인스턴스가 같은 URL을 동시에 넣으면 유니크 제약 위반으로 트랜잭션이 실패할 수 있다 (호출 측에서 한 건씩 재시도).
+     * @return 새로 쌓이거나 되살아난 작업 수
+     */
+    @Transactional
+    public int enqueue(CrawlTask.Kind kind, String source, String category, int page, Collection<String> urls) {
+        if (urls.isEmpty()) return 0;
+        Set<String> pending = new HashSet<>(urls);
+        int queued = 0;
+        List<CrawlTask> existing = em.createQuery("select t from CrawlTask t where t.url in :urls", CrawlTask.class)
+                .setParameter("urls", pending)
+                .getResultList();
+        for (CrawlTask t : existing) {
+            pending.remove(t.getUrl());
+            if (kind == CrawlTask.Kind.LIST && t.getKind() == CrawlTask.Kind.LIST
+                    && (t.getStatus() == CrawlTask.Status.DONE || t.getStatus() == CrawlTask.Status.FAILED)) {
+                t.setStatus(CrawlTask.Status.QUEUED);
+                t.setPage(page);
+                t.setAttempts(0);
+                t.setNotBefore(Instant.now());
+                t.setLastError(null);
+                queued++;
+            }
+        }
+        Instant now = Instant.now();
+        for (String url : urls) {
+            if (!pending.remove(url)) continue; // 이미 있거나 같은 목록 안의 중복
+            CrawlTask t = new CrawlTask();
+            t.setKind(kind);
+            t.setSource(source);
+            t.setCategory(category);
+            t.setUrl(url);
+            t.setPage(page);
+            t.setCreatedAt(now);
+            t.setNotBefore(now);
+            em.persist(t);
+            queued++;
+        }
+        return queued;
+    }
+
+    /**
+     * 임대가 만료된 작업을 먼저, 남는 자리는 때가 된(not_before 지난) 대기 작업으로 최대 n개 임대한다.
+     * 만료된 작업이 이미 maxAttempts번 임대됐으면 FAILED로 돌린다.
+     * 두 조건을 OR로 묶으면 (status, ...) 인덱스를 못 타고 쌓인 DONE 행까지 훑으며 잠그므로 따로 고른다.
+     */
+    @Transactional
+    public List<CrawlTask> lease(String owner, int n, Duration leaseFor) {
+        Instant now = Instant.now();
+        List<Number> ids = new ArrayList<>(lockIds("""
+                        select id from crawl_task
+                        where status = 'LEASED' and lease_until < :now
+                        order by lease_until, id
+                        limit :n
+                        for update skip locked""", now, n));
+        if (ids.size() < n) {
+            ids.addAll(lockIds("""
+                            select id from crawl_task
+                            where status = 'QUEUED' and not_before <= :now
+                            order by not_before, id
+                            limit :n
+                            for update skip locked""", now, n - ids.size()));
+        }
+        if (ids.isEmpty()) return List.of();
+
+        List<Long> idList = new ArrayList<>(ids.size());
+        for (Number id : ids) idList.add(id.longValue());
+        List<CrawlTask> leased = new ArrayList<>(idList.size());
+        int maxAttempts = Math.max(1, props.getQueue().getMaxAttempts());
+        for (CrawlTask t : em.createQuery("select t from CrawlTask t where t.id in :ids order by t.id", CrawlTask.class)
+                .setParameter("ids", idList)
+                .getResultList()) {
+            if (t.getStatus() == CrawlTask.Status.LEASED && t.getAttempts() >= maxAttempts) {
+                t.setStatus(CrawlTask.Status.FAILED);
+                t.setLastError("lease expired " + t.getAttempts() + " times (owner " + t.getLeaseOwner() + ")");
+                t.setLeaseOwner(null);
+                t.setLeaseUntil(null);
+                continue;
+            }
+            t.setStatus(CrawlTask.Status.LEASED);
+            t.setLeaseOwner(owner);
+            t.setLeaseUntil(now.plus(leaseFor));
+            t.setAttempts(t.getAttempts() + 1);
+            leased.add(t);
+        }
+        return leased;
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<Number> lockIds(String sql, Instant now, int n) {
+        return em.createNativeQuery(sql)
+                .setParameter("now", now)
+                .setParameter("n", n)
+                .getResultList();
+    }
+
+    /** 아직 내가 임대 중인 작업들의 만료 시각을 늘린다. @return 연장된 수 (빠진 건 이미 다른 워커에게 넘어갔다) */
+    @Transactional
+    public int heartbeat(String owner, Collection<Long> ids, Duration leaseFor) {
+        if (ids.isEmpty()) return 0;
+        return em.createQuery("update CrawlTask t set t.leaseUntil = :until "
+                        + "where t.id in :ids and t.leaseOwner = :owner and t.status = :leased")
+                .setParameter("until", Instant.now().plus(leaseFor))
+                .setParameter("ids", ids)
+                .setParameter("owner", owner)
+                .setParameter("leased", CrawlTask.Status.LEASED)
+                .executeUpdate();
+    }
+
+    /** @return 완료 처리된 수. 임대가 만료돼 다른 워커가 가져간 작업은 건드리지 않는다 */
+    @Transactional
+    public int complete(String owner, Collection<Long> ids) {
+        if (ids.isEmpty()) return 0;
+        return em.createQuery("update CrawlTask t set t.status = :done, t.leaseOwner = null, t.leaseUntil = null, "
+                        + "t.lastError = null where t.id in :ids and t.leaseOwner = :owner and t.status = :leased")
+                .setParameter("done", CrawlTask.Status.DONE)
+                .setParameter("ids", ids)
+                .setParameter("owner", owner)
+                .setParameter("leased", CrawlTask.Status.LEASED)
+                .executeUpdate();
+    }
+
+    /** 다시 해볼 만한 실패면 백오프 뒤로 미뤄 QUEUED로 되돌리고(최대 maxAttempts번), 아니면 FAILED */
+    @Transactional
+    public void fail(String owner, long id, String error, boolean retryable) {
+        CrawlTask t = em.find(CrawlTask.class, id);
+        if (t == null || t.getStatus() != CrawlTask.Status.LEASED || !owner.equals(t.getLeaseOwner())) return;
+        boolean retry = retryable && t.getAttempts() < Math.max(1, props.getQueue().getMaxAttempts());
+        t.setStatus(retry ? CrawlTask.Status.QUEUED : CrawlTask.Status.FAILED);
+        if (retry) t.setNotBefore(Instant.now().plusMillis(retryDelayMillis(t.getAttempts())));
+        t.setLeaseOwner(null);
+        t.setLeaseUntil(null);
+        t.setLastError(error == null || error.length() <= 512 ? error : error.substring(0, 512));
+    }
+
+    /** retryDelayMillis × 2^(attempts-1), 최대 maxRetryDelayMillis. 같이 실패한 작업들이 한꺼번에 깨지 않게 절반은 무작위 */
+    private long retryDelayMillis(int attempts) {
+        CrawlProperties.Queue q = props.getQueue();
+        long base = Math.max(0, q.getRetryDelayMillis());
+        long delay = Math.min(q.getMaxRetryDelayMillis(), base << Math.min(20, Math.max(0, attempts - 1)));
+        if (delay <= 1) return Math.max(0, delay);
+        return delay / 2 + ThreadLocalRandom.current().nextLong(delay / 2 + 1);
+    }
+
+    /** 상태별 작업 수 */
+    public Map<CrawlTask.Status, Long> counts() {
+        Map<CrawlTask.Status, Long> out = new LinkedHashMap<>();
+        for (CrawlTask.Status s : CrawlTask.Status.values()) out.put(s, 0L);
+        for (Object[] row : em.createQuery("select t.status, count(t) from CrawlTask t group by t.status", Object[].class)
+                .getResultList()) {
+            out.put((CrawlTask.Status) row[0], (Long) row[1]);
+        }
+        return out;
+    }
+
+    /** crawler.queue.tasks{status=...}: 상태별 큐 깊이 */
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        for (CrawlTask.Status s : CrawlTask.Status.values()) {
+            Gauge.builder("crawler.queue.tasks", this, q -> q.cachedCounts().getOrDefault(s, 0L))
+                    .description("crawl_task 상태별 작업 수")
+                    .tag("status", s.name().toLowerCase(Locale.ROOT))
+                    .register(registry);
+        }
+    }
+
+    private Map<CrawlTask.Status, Long> cachedCounts() {
+        long now = System.nanoTime();
+        if (gaugeAt == 0 || now - gaugeAt > GAUGE_TTL_NANOS) {
+            gaugeCounts = counts();
+            gaugeAt = now;
+        }
+        return gaugeCounts;
+    }
+}
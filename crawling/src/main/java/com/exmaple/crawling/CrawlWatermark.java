@@ -0,0 +1,24 @@
+package com.exmaple.crawling;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.time.Instant;
+
+/** (source, category)별 증분 수집 기준점: 지난 실행에서 본 가장 최신 기사 */
+@Entity
+@Getter
+@Setter
+@Table(uniqueConstraints = @UniqueConstraint(columnNames = {"source", "category"}))
+public class CrawlWatermark {
+    @Id
+    @GeneratedValue(strategy = GenerationType.AUTO)
+    private Long id;
+    private String source;
+    private String category;
+    /** 목록 첫 페이지 맨 위 기사(정규화 URL) */
+    @Column(length = 512)
+    private String lastSourceUrl;
+    private Instant updatedAt;
+}
@@ -0,0 +1,11 @@
+package com.exmaple.crawling;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+@Repository
+public interface CrawlWatermarkRepository extends JpaRepository<CrawlWatermark, Long> {
+    Optional<CrawlWatermark> findBySourceAndCategory(String source, String category);
+}
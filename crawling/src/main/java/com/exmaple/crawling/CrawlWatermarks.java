@@ -0,0 +1,32 @@
+package com.exmaple.crawling;
+
+import jakarta.transaction.Transactional;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+
+@Component
+@RequiredArgsConstructor
+public class CrawlWatermarks {
+    private final CrawlWatermarkRepository repo;
+
+    public String lastUrl(String source, String category) {
+        return repo.findBySourceAndCategory(source, category)
+                .map(CrawlWatermark::getLastSourceUrl)
+                .orElse(null);
+    }
+
+    @Transactional
+    public void advance(String source, String category, String newestUrl) {
+        CrawlWatermark w = repo.findBySourceAndCategory(source, category).orElseGet(() -> {
+            CrawlWatermark n = new CrawlWatermark();
+            n.setSource(source);
+            n.setCategory(category);
+            return n;
+        });
+        w.setLastSourceUrl(newestUrl);
+        w.setUpdatedAt(Instant.now());
+        repo.save(w);
+    }
+}
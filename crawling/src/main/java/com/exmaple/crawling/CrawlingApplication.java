@@ -2,12 +2,24 @@ package com.exmaple.crawling;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.context.properties.ConfigurationPropertiesScan;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 @SpringBootApplication
+@ConfigurationPropertiesScan
+@EnableScheduling
 public class CrawlingApplication {
 
     public static void main(String[] args) {
+        // JDK HttpClient 연결 풀은 JVM 전역 시스템 프로퍼티로만 설정되고 첫 클라이언트가 만들어질 때 읽힌다.
+        // 컨텍스트보다 먼저 기본값을 두고, -D로 준 값이 있으면 그대로 쓴다
+        defaultProperty("jdk.httpclient.keepalive.timeout", "60"); // 유휴 keep-alive 연결 유지 시간(초)
+        defaultProperty("jdk.httpclient.connectionPoolSize", "16"); // 남겨 둘 HTTP/1.1 유휴 연결 수, 모든 호스트 합산
         SpringApplication.run(CrawlingApplication.class, args);
     }
 
+    private static void defaultProperty(String key, String value) {
+        if (System.getProperty(key) == null) System.setProperty(key, value);
+    }
+
 }
@@ -17,14 +17,23 @@ public class CrawlingController {
 
     @GetMapping("/daum")
     public ResponseEntity<?> crawlDaum(@RequestParam(defaultValue = "economy") String category,
-                                       @RequestParam(defaultValue = "5") int limit) throws Exception {
-        List<Long> ids = newsService.crawlCategory(category, limit);
+                                       @RequestParam(defaultValue = "5") int limit,
+                                       @RequestParam(defaultValue = "false") boolean incremental) throws Exception {
+        List<Long> ids = newsService.crawlCategory(category, limit, incremental);
         return ResponseEntity.ok(ids);
     }
 
     @GetMapping("/naver")
     public ResponseEntity<?> crawlNaver(@RequestParam(defaultValue = "economy") String category,
-                                        @RequestParam(defaultValue = "5") int limit) throws Exception {
-        return ResponseEntity.ok(newsService.crawlNaverCategory(category, Math.max(1, limit)));
+                                        @RequestParam(defaultValue = "5") int limit,
+                                        @RequestParam(defaultValue = "false") boolean incremental) throws Exception {
+        return ResponseEntity.ok(newsService.crawlNaverCategory(category, Math.max(1, limit), incremental));
+    }
+
+    /** 다음/네이버 모든 카테고리를 병렬로. limit은 (source, category)당 개수 */
+    @GetMapping("/all")
+    public ResponseEntity<?> crawlAll(@RequestParam(defaultValue = "5") int limit,
+                                      @RequestParam(defaultValue = "false") boolean incremental) throws Exception {
+        return ResponseEntity.ok(newsService.crawlAll(Math.max(1, limit), incremental, CrawlListener.NONE));
     }
 }
\ No newline at end of file
@@ -0,0 +1,292 @@
+package com.exmaple.crawling;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.jsoup.nodes.Document;
+import org.jsoup.nodes.Element;
+import org.jsoup.select.Elements;
+import org.jsoup.select.Evaluator;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 다음 뉴스: 카테고리 목록은 다음/더보기 링크로, 기사는 JSON-LD articleBody 우선.
+ * 기사는 먼저 원본 HTML에서 meta/JSON-LD만 훑고(HeadScanner), 본문이 없을 때만 DOM을 만든다.
+ */
+@Component
+public class DaumExtractor implements SiteExtractor {
+    private final ObjectMapper mapper = new ObjectMapper();
+
+    private static final Map<String, String> CATEGORY_URL = Map.of(
+            "politics", "https://news.daum.net/politics",
+            "economy",  "https://news.daum.net/economy",
+            "society",  "https://news.daum.net/society",
+            "world",    "https://news.daum.net/world",
+            "digital",  "https://news.daum.net/digital"
+    );
+
+    private static final Evaluator ARTICLE_LINK = Selectors.css("a[href*=/v/]");
+    private static final Evaluator NEXT_PAGE = Selectors.css(
+            ".paging a.next, a:matchesOwn(다음|더보기|Next|›), a[rel=next], a[href*='page=']");
+    private static final Evaluator OG_TITLE = Selectors.css("meta[property=og:title]");
+    private static final Evaluator TITLE = Selectors.css("h3.tit_view");
+    private static final Evaluator HARMONY = Selectors.css("#harmonyContainer");
+    private static final Evaluator M_ARTICLE = Selectors.css("#mArticle");
+    // 화면용/광고/유틸 영역
+    private static final Evaluator NOISE = Selectors.css(
+            "aside, nav, .btn_util, .util_view, .voice_area, .translate_btn, " +
+            ".tool_trans, .copyright, .foot_view, .relate_news, .kakao_ad, " +
+            ".ad_player, .realtime_view, .keyword_view");
+    private static final Evaluator SECTION_P = Selectors.css("section p");
+    private static final Evaluator P = Selectors.css("p");
+    private static final Evaluator PUBLISHED = Selectors.css(
+            "meta[property=article:published_time], meta[name=date], meta[name=pubdate]");
+    private static final Set<String> PUBLISHED_KEYS = Set.of("article:published_time", "date", "pubdate");
+    private static final Evaluator REPORTER = Selectors.css(".info_view .txt_info, .name_reporter");
+    private static final Evaluator JSON_LD = Selectors.css("script[type=application/ld+json]");
+    private static final Evaluator IMAGES = Selectors.css(
+            "section img[src], section img[data-src], img[srcset]");
+
+    @Override
+    public String source() {
+        return "daum";
+    }
+
+    @Override
+    public Set<String> categories() {
+        return CATEGORY_URL.keySet();
+    }
+
+    @Override
+    public String firstListUrl(String category) {
+        return CATEGORY_URL.getOrDefault(category, CATEGORY_URL.get("economy"));
+    }
+
+    @Override
+    public List<String> extractLinks(Document list) {
+        Elements as = list.select(ARTICLE_LINK);
+        List<String> links = new ArrayList<>(as.size());
+        for (Element a : as) links.add(UrlCanonicalizer.canonical(a.attr("abs:href")));
+        return links;
+    }
+
+    /** 목록 페이지에서 '다음/더보기/rel=next' 등 링크 탐색 */
+    @Override
+    public String nextListUrl(Document list, String currentUrl, int page, boolean foundNew) {
+        Element next = list.selectFirst(NEXT_PAGE);
+        String url = next == null ? null : next.attr("abs:href");
+        return url != null && url.equalsIgnoreCase(list.location()) ? null : url;
+    }
+
+    @Override
+    public News parse(FetchedPage page, String category) throws IOException {
+        News fast = parseFast(page, category);
+        return fast != null ? fast : SiteExtractor.super.parse(page, category);
+    }
+
+    /**
+     * DOM 없이 meta 태그 + JSON-LD만으로 채운다. articleBody가 없으면 null (→ DOM 경로).
+     * 본문·발행일은 DOM 경로와 같은 규칙(JSON-LD articleBody, 문서에 먼저 나온 발행일 meta → datePublished)을 따른다.
+     * 다른 점: 이미지는 본문 img 대신 JSON-LD image, 기자는 author.name을 쓴다. 다음은 JSON-LD image에
+     * 본문 이미지 원본을 본문 순서대로 싣기 때문에 보통 같은 값이 나온다 (DaumExtractorTest가 실제 기사 모양으로 확인).
+     */
+    News parseFast(FetchedPage page, String category) {
+        HeadScanner head = HeadScanner.of(page);
+        if (head == null) return null;
+        JsonNode article = jsonLdArticle(head.jsonLd());
+        if (article == null) return null;
+        String content = articleBody(article);
+
+        String title = head.meta("og:title");
+        if (title == null) title = get(article, "headline");
+
+        String published = head.firstMeta(PUBLISHED_KEYS);
+        if (published == null) published = get(article, "datePublished");
+
+        News n = new News();
+        n.setTitle(title);
+        n.setBodyText(content);
+        n.setImages(jsonLdImages(article.get("image")));
+        n.setAuthor(jsonLdName(article.get("author")));
+        n.setPostDate(PostDates.parse(published));
+        n.setCategory(category);
+        n.setSource(source());
+        n.setSourceUrl(UrlCanonicalizer.canonical(page.url()));
+        return n;
+    }
+
+    /** 상세 기사 파싱: 제목/본문/기자/발행일 + 이미지 URL 목록 */
+    @Override
+    public News parse(Document doc, String category) {
+        // 제목
+        String title = Selectors.meta(doc, OG_TITLE);
+        if (title == null) {
+            Element h = doc.selectFirst(TITLE);
+            if (h != null) title = h.text();
+        }
+
+        // 본문 컨테이너
+        Element hc = doc.selectFirst(HARMONY);
+        if (hc == null) hc = doc.selectFirst(M_ARTICLE);
+        if (hc != null) hc.select(NOISE).remove();
+
+        // 1) JSON-LD articleBody 우선
+        JsonNode article = jsonLdArticle(jsonLdBlocks(doc));
+        String content = article == null ? null : articleBody(article);
+
+        // 2) 없으면 DOM에서 p만 모으기 + UI 문자열 필터
+        if (content == null || content.isBlank()) {
+            Elements paras = hc != null ? hc.select(SECTION_P) : new Elements();
+            if (paras.isEmpty() && hc != null) paras = hc.select(P);
+
+            StringBuilder body = new StringBuilder();
+            for (Element p : paras) {
+                String t = p.text().trim();
+                if (t.isBlank() || isUiText(t)) continue;
+                body.append(t).append("\n\n");
+            }
+            content = body.toString().trim();
+        }
+
+        if (content.isBlank()) return null;
+
+        // 발행일: 문서에 먼저 나온 발행일 meta, 없으면 JSON-LD datePublished (fast 경로와 같은 순서)
+        String published = Selectors.meta(doc, PUBLISHED);
+        if (published == null) published = get(article, "datePublished");
+
+        // 기자명
+        String author = null;
+        Element rep = doc.selectFirst(REPORTER);
+        if (rep != null) author = rep.text();
+
+        News n = new News();
+        n.setTitle(title);
+        n.setBodyText(content);
+        n.setImages(collectImages(hc)); // 이미지 URL 수집 (원본 복원)
+        n.setAuthor(author);
+        n.setPostDate(PostDates.parse(published));
+        n.setCategory(category);
+        n.setSource(source());
+        n.setSourceUrl(UrlCanonicalizer.canonical(doc.location()));
+        return n;
+    }
+
+    private static boolean isUiText(String t) {
+        return t.contains("번역beta") || t.startsWith("Translated by")
+                || t.startsWith("글씨크기") || t.startsWith("인쇄하기")
+                || t.contains("무단전재") || t.contains("재배포 금지");
+    }
+
+    /** JSON-LD에서 articleBody 추출 (가장 깨끗함) */
+    String extractBodyFromJsonLd(Document doc) {
+        JsonNode article = jsonLdArticle(jsonLdBlocks(doc));
+        return article == null ? null : articleBody(article);
+    }
+
+    private static List<String> jsonLdBlocks(Document doc) {
+        List<String> blocks = new ArrayList<>(2);
+        for (Element s : doc.select(JSON_LD)) blocks.add(s.data());
+        return blocks;
+    }
+
+    /** JSON-LD 블록들 중 본문(articleBody)을 가진 첫 Article/NewsArticle 노드. fast/DOM 경로 공용 */
+    private JsonNode jsonLdArticle(List<String> blocks) {
+        for (String block : blocks) {
+            try {
+                JsonNode article = articleNode(mapper.readTree(block));
+                if (article != null && articleBody(article) != null) return article;
+            } catch (Exception ignore) {}
+        }
+        return null;
+    }
+
+    /** JSON-LD 노드(배열 가능)에서 Article/NewsArticle의 articleBody (50자 초과만) */
+    static String articleBody(JsonNode node) {
+        JsonNode article = articleNode(node);
+        if (article == null) return null;
+        String body = get(article, "articleBody");
+        return body != null && body.strip().length() > 50 ? body.strip() : null;
+    }
+
+    /** 배열이면 본문(50자 초과)을 가진 첫 Article/NewsArticle, 없으면 첫 Article 노드 */
+    private static JsonNode articleNode(JsonNode node) {
+        if (node == null) return null;
+        if (!node.isArray()) return isArticleNode(node) ? node : null;
+        JsonNode first = null;
+        for (JsonNode n : node) {
+            JsonNode a = articleNode(n);
+            if (a == null) continue;
+            if (first == null) first = a;
+            String body = get(a, "articleBody");
+            if (body != null && body.strip().length() > 50) return a;
+        }
+        return first;
+    }
+
+    /** JSON-LD image: 문자열 / ImageObject / 그 배열 → 원본 URL 목록 */
+    static List<String> jsonLdImages(JsonNode image) {
+        if (image == null) return List.of();
+        LinkedHashSet<String> set = new LinkedHashSet<>();
+        for (JsonNode i : image.isArray() ? image : List.of(image)) {
+            String u = i.isTextual() ? i.asText() : get(i, "url");
+            if (u != null && !u.isBlank()) set.add(unthumbDaum(u));
+        }
+        return List.copyOf(set);
+    }
+
+    /** JSON-LD author: 문자열 / Person / 그 배열 → 이름들 */
+    static String jsonLdName(JsonNode author) {
+        if (author == null) return null;
+        List<String> names = new ArrayList<>(1);
+        for (JsonNode a : author.isArray() ? author : List.of(author)) {
+            String name = a.isTextual() ? a.asText() : get(a, "name");
+            if (name != null && !name.isBlank()) names.add(name.strip());
+        }
+        return names.isEmpty() ? null : String.join(", ", names);
+    }
+
+    /** 본문 이미지 URL 수집(+섬네일을 원본으로 복원) */
+    static List<String> collectImages(Element container) {
+        if (container == null) return List.of();
+        LinkedHashSet<String> set = new LinkedHashSet<>();
+        for (Element img : container.select(IMAGES)) {
+            String u = img.hasAttr("data-src") ? img.attr("abs:data-src") : img.attr("abs:src");
+            if (u.isBlank() && img.hasAttr("srcset")) u = Selectors.firstSrcset(img);
+            if (u.isBlank()) continue;
+            set.add(unthumbDaum(u));
+        }
+        return List.copyOf(set);
+    }
+
+    /** daum 썸네일(…/thumb/.../?fname=원본URL) → 원본 URL 추출 */
+    static String unthumbDaum(String u) {
+        try {
+            int i = u.indexOf("fname=");
+            if (i >= 0) {
+                int end = u.indexOf('&', i + 6);
+                String fname = end >= 0 ? u.substring(i + 6, end) : u.substring(i + 6);
+                // 인코딩된 글자가 없으면 디코딩 생략
+                return fname.indexOf('%') < 0 && fname.indexOf('+') < 0
+                        ? fname : URLDecoder.decode(fname, StandardCharsets.UTF_8);
+            }
+        } catch (Exception ignore) {}
+        return u;
+    }
+
+    private static boolean isArticleNode(JsonNode node) {
+        String t = node.has("@type") ? node.get("@type").asText("") : "";
+        return "Article".equalsIgnoreCase(t) || "NewsArticle".equalsIgnoreCase(t);
+    }
+
+    private static String get(JsonNode n, String f) {
+        return n != null && n.has(f) && !n.get(f).isNull() ? n.get(f).asText(null) : null;
+    }
+}
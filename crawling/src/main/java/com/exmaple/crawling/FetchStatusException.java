@@ -0,0 +1,17 @@
+package com.exmaple.crawling;
+
+import org.jsoup.HttpStatusException;
+
+/** HTTP 4xx/5xx. Retry-After 헤더가 있었다면 밀리초로 함께 전달 */
+public class FetchStatusException extends HttpStatusException {
+    private final long retryAfterMillis;
+
+    public FetchStatusException(int status, String url, long retryAfterMillis) {
+        super("HTTP error fetching URL", status, url);
+        this.retryAfterMillis = retryAfterMillis;
+    }
+
+    public long getRetryAfterMillis() {
+        return retryAfterMillis;
+    }
+}
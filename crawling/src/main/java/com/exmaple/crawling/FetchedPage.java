@@ -0,0 +1,24 @@
+package com.exmaple.crawling;
+
+import org.jsoup.Jsoup;
+import org.jsoup.nodes.Document;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+
+/**
+ * fetch 단계 결과: 아직 파싱하지 않은 원본 응답.
+ * url은 요청한 URL(프런티어·아카이브가 아는 이름), location은 리다이렉트를 따라간 최종 URL로 문서의 기준 URI가 된다.
+ */
+public record FetchedPage(String url, byte[] body, String charset, String location) {
+
+    /** 리다이렉트가 없었거나 최종 URL을 모를 때 (아카이브, 테스트) */
+    public FetchedPage(String url, byte[] body, String charset) {
+        this(url, body, charset, url);
+    }
+
+    /** 상대 경로(abs:src, abs:href)는 최종 URL 기준으로 풀린다 */
+    public Document parse() throws IOException {
+        return Jsoup.parse(new ByteArrayInputStream(body), charset, location);
+    }
+}
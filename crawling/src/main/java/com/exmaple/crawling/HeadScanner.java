@@ -0,0 +1,238 @@
+package com.exmaple.crawling;
+
+import org.jsoup.parser.Parser;
+
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * DOM을 만들지 않고 원본 바이트에서 &lt;head&gt;의 meta 태그와 JSON-LD 블록만 뽑는다.
+ * 태그·속성 이름은 ASCII라서 바이트 그대로 (대소문자 무시) 찾고, 값 부분만 문자열로 디코딩한다.
+ * 태그 끝 '>'는 따옴표로 감싼 속성값 밖에서만 찾는다 (content="a>b"에서 잘리지 않게).
+ * 정규 HTML 파서가 아니므로 여기서 못 찾은 값은 호출 측이 Jsoup DOM으로 다시 찾는다.
+ */
+final class HeadScanner {
+    private static final byte[] ASCII_PROBE = "<>=\"'/ ".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] META = bytes("<meta");
+    private static final byte[] SCRIPT = bytes("<script");
+    private static final byte[] SCRIPT_END = bytes("</script");
+    private static final byte[] HEAD_END = bytes("</head");
+    private static final byte[] LD_JSON = bytes("application/ld+json");
+    private static final byte[] CHARSET = bytes("charset=");
+
+    private final byte[] b;
+    private final Charset charset;
+    private final int headEnd;
+    private Map<String, String> metas;
+
+    private HeadScanner(byte[] b, Charset charset) {
+        this.b = b;
+        this.charset = charset;
+        int end = indexOf(b, HEAD_END, 0, b.length);
+        this.headEnd = end >= 0 ? end : b.length;
+    }
+
+    /** ASCII 호환 인코딩(UTF-8, EUC-KR …)이 아니면 null → 호출 측은 DOM 경로로 */
+    static HeadScanner of(FetchedPage page) {
+        Charset cs = charsetOf(page);
+        return Arrays.equals(new String(ASCII_PROBE, StandardCharsets.US_ASCII).getBytes(cs), ASCII_PROBE)
+                ? new HeadScanner(page.body(), cs) : null;
+    }
+
+    /** property 또는 name이 key인 첫 meta의 content (엔티티 해제). 없으면 null */
+    String meta(String key) {
+        if (metas == null) metas = scanMetas();
+        return metas.get(key.toLowerCase(Locale.ROOT));
+    }
+
+    /** keys 중 문서에 먼저 나온 meta의 content (DOM의 selectFirst와 같은 순서). keys는 소문자로 준다 */
+    String firstMeta(Collection<String> keys) {
+        if (metas == null) metas = scanMetas();
+        for (Map.Entry<String, String> e : metas.entrySet()) {
+            if (keys.contains(e.getKey())) return e.getValue();
+        }
+        return null;
+    }
+
+    /** 문서 전체의 application/ld+json 스크립트 본문들 (나온 순서) */
+    List<String> jsonLd() {
+        List<String> out = new ArrayList<>(2);
+        int from = 0;
+        int open;
+        while ((open = indexOf(b, SCRIPT, from, b.length)) >= 0) {
+            int tagEnd = tagEnd(b, open);
+            if (tagEnd < 0) break;
+            int close = indexOf(b, SCRIPT_END, tagEnd + 1, b.length);
+            if (close < 0) break;
+            if (indexOf(b, LD_JSON, open, tagEnd) >= 0) {
+                out.add(new String(b, tagEnd + 1, close - tagEnd - 1, charset));
+            }
+            from = close + SCRIPT_END.length;
+        }
+        return out;
+    }
+
+    private Map<String, String> scanMetas() {
+        Map<String, String> out = new LinkedHashMap<>(); // 처음 나온 순서 유지
+        int from = 0;
+        int open;
+        while ((open = indexOf(b, META, from, headEnd)) >= 0) {
+            int end = tagEnd(b, open);
+            if (end < 0) break;
+            String key = null, content = null;
+            int i = open + META.length;
+            while (i < end) {
+                while (i < end && !isNameByte(b[i])) i++;
+                int ns = i;
+                while (i < end && isNameByte(b[i])) i++;
+                if (ns == i) break;
+                String name = new String(b, ns, i - ns, StandardCharsets.US_ASCII).toLowerCase(Locale.ROOT);
+                while (i < end && isSpace(b[i])) i++;
+                if (i >= end || b[i] != '=') continue;
+                i++;
+                while (i < end && isSpace(b[i])) i++;
+                int vs, ve;
+                if (i < end && (b[i] == '"' || b[i] == '\'')) {
+                    byte q = b[i++];
+                    vs = i;
+                    while (i < end && b[i] != q) i++;
+                    ve = i++;
+                } else {
+                    vs = i;
+                    while (i < end && !isSpace(b[i])) i++;
+                    ve = i;
+                }
+                if (name.equals("property") || name.equals("name")) {
+                    key = new String(b, vs, ve - vs, charset).toLowerCase(Locale.ROOT);
+                } else if (name.equals("content")) {
+                    content = new String(b, vs, ve - vs, charset);
+                }
+            }
+            if (key != null && content != null) out.putIfAbsent(key, unescape(content));
+            from = end + 1;
+        }
+        return out;
+    }
+
+    /**
+     * 자주 나오는 엔티티만 직접 푼다. 그 밖의 이름 있는 엔티티가 섞여 있으면 Jsoup에 맡긴다
+     * (Jsoup은 호출마다 큰 버퍼를 잡으므로 흔한 경우엔 피한다).
+     */
+    static String unescape(String s) {
+        int amp = s.indexOf('&');
+        if (amp < 0) return s;
+        StringBuilder out = new StringBuilder(s.length());
+        out.append(s, 0, amp);
+        for (int i = amp; i < s.length(); i++) {
+            char c = s.charAt(i);
+            int semi;
+            if (c != '&' || (semi = s.indexOf(';', i)) < 0 || semi - i > 10) {
+                out.append(c);
+                continue;
+            }
+            String ent = s.substring(i + 1, semi);
+            int cp = switch (ent) {
+                case "quot" -> '"';
+                case "amp" -> '&';
+                case "lt" -> '<';
+                case "gt" -> '>';
+                case "apos" -> '\'';
+                case "nbsp" -> '\u00a0';
+                default -> numeric(ent);
+            };
+            if (cp < 0) return Parser.unescapeEntities(s, true);
+            out.appendCodePoint(cp);
+            i = semi;
+        }
+        return out.toString();
+    }
+
+    private static int numeric(String ent) {
+        try {
+            if (ent.startsWith("#x") || ent.startsWith("#X")) return Integer.parseInt(ent.substring(2), 16);
+            if (ent.startsWith("#")) return Integer.parseInt(ent.substring(1));
+        } catch (NumberFormatException ignore) {
+        }
+        return -1;
+    }
+
+    /** 응답 헤더 charset → 앞부분의 meta charset → UTF-8 */
+    private static Charset charsetOf(FetchedPage page) {
+        String name = page.charset();
+        byte[] b = page.body();
+        if (name == null) {
+            int limit = Math.min(b.length, 1024);
+            int i = indexOf(b, CHARSET, 0, limit);
+            if (i >= 0) {
+                int s = i + CHARSET.length;
+                while (s < limit && (b[s] == '"' || b[s] == '\'')) s++;
+                int e = s;
+                while (e < limit && isNameByte(b[e])) e++;
+                name = new String(b, s, e - s, StandardCharsets.US_ASCII);
+            }
+        }
+        try {
+            return name == null || name.isEmpty() ? StandardCharsets.UTF_8 : Charset.forName(name);
+        } catch (Exception e) {
+            return StandardCharsets.UTF_8;
+        }
+    }
+
+    private static boolean isNameByte(byte c) {
+        return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || (c >= '0' && c <= '9')
+                || c == '-' || c == ':' || c == '_';
+    }
+
+    private static boolean isSpace(byte c) {
+        return c == ' ' || c == '\t' || c == '\n' || c == '\r' || c == '\f';
+    }
+
+    /** from에서 시작한 태그를 닫는 '>' 위치. '=' 뒤에 따옴표로 시작한 값 안의 '>'는 건너뛴다 */
+    private static int tagEnd(byte[] b, int from) {
+        byte quote = 0;
+        byte prev = 0; // 따옴표 밖에서 마지막으로 본 공백 아닌 바이트
+        for (int i = from; i < b.length; i++) {
+            byte c = b[i];
+            if (quote != 0) {
+                if (c == quote) {
+                    quote = 0;
+                    prev = c;
+                }
+            } else if ((c == '"' || c == '\'') && prev == '=') {
+                quote = c;
+            } else if (c == '>') {
+                return i;
+            } else if (!isSpace(c)) {
+                prev = c;
+            }
+        }
+        return -1;
+    }
+
+    /** ASCII 대소문자 무시 검색. needle은 소문자로 준다 */
+    private static int indexOf(byte[] b, byte[] needle, int from, int to) {
+        byte first = needle[0];
+        for (int i = from, last = to - needle.length; i <= last; i++) {
+            if (lower(b[i]) != first) continue;
+            int k = 1;
+            while (k < needle.length && lower(b[i + k]) == needle[k]) k++;
+            if (k == needle.length) return i;
+        }
+        return -1;
+    }
+
+    private static byte lower(byte c) {
+        return c >= 'A' && c <= 'Z' ? (byte) (c + 32) : c;
+    }
+
+    private static byte[] bytes(String s) {
+        return s.getBytes(StandardCharsets.US_ASCII);
+    }
+}
@@ -0,0 +1,144 @@
+package com.exmaple.crawling;
+
+import org.springframework.stereotype.Component;
+
+import java.net.URI;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 호스트별 동시 요청 수 + 초당 요청 수 제한 (politeDelay 대체).
+ * 초당 요청 수는 AIMD로 조절된다: 429/503을 받으면 절반으로, 성공할 때마다 조금씩 설정값까지 회복.
+ */
+@Component
+public class HostThrottle {
+    private final CrawlProperties props;
+    private final Map<String, Limiter> limiters = new ConcurrentHashMap<>();
+    /** 모든 호스트 합산 동시 요청 수 (전체 수집을 병렬로 돌릴 때의 전역 예산) */
+    private final Semaphore global;
+
+    public HostThrottle(CrawlProperties props) {
+        this.props = props;
+        int max = props.getFetch().getGlobalMaxConcurrency();
+        this.global = new Semaphore(max > 0 ? max : Integer.MAX_VALUE, true);
+    }
+
+    /**
+     * 요청 직전에 호출. 반환된 Permit을 닫아야 동시 요청 슬롯이 풀린다.
+     * 호스트 슬롯 → 전역 슬롯 순서로 잡아서, 호스트 간격을 기다리는 동안 전역 예산을 묶어두지 않는다.
+     */
+    public Permit acquire(String url) throws InterruptedException {
+        Limiter l = limiter(url);
+        l.permits.acquire();
+        try {
+            l.awaitSlot();
+            global.acquire();
+        } catch (InterruptedException e) {
+            l.permits.release();
+            throw e;
+        }
+        return () -> {
+            global.release();
+            l.permits.release();
+        };
+    }
+
+    /** 정상 응답: 속도를 한 단계 회복 */
+    public void onSuccess(String url) {
+        limiter(url).increase();
+    }
+
+    /** 429/503: 속도를 줄이고, Retry-After가 있으면 그때까지 호스트 전체를 멈춘다 */
+    public void onThrottled(String url, long retryAfterMillis) {
+        Limiter l = limiter(url);
+        l.decrease();
+        if (retryAfterMillis > 0) l.pauseFor(TimeUnit.MILLISECONDS.toNanos(retryAfterMillis));
+    }
+
+    public CircuitBreaker breaker(String url) {
+        return limiter(url).breaker;
+    }
+
+    /** 현재 적용 중인 초당 요청 수 */
+    public double currentRate(String url) {
+        return limiter(url).rate;
+    }
+
+    private Limiter limiter(String url) {
+        return limiters.computeIfAbsent(hostOf(url), h -> new Limiter(h, props));
+    }
+
+    static String hostOf(String url) {
+        try {
+            String h = URI.create(url).getHost();
+            return h == null ? "" : h.toLowerCase();
+        } catch (Exception e) {
+            return "";
+        }
+    }
+
+    public interface Permit extends AutoCloseable {
+        @Override
+        void close();
+    }
+
+    private static final class Limiter {
+        private final Semaphore permits;
+        private final CircuitBreaker breaker;
+        private final double maxRate;
+        private final double minRate;
+        private final double step;
+        private final double factor;
+        private volatile double rate;
+        private long nextSlot = System.nanoTime();
+        /** 쿨다운이 이미 지난 것으로 시작: 0으로 두면 nanoTime 기준점에 따라 첫 429가 무시될 수 있다 */
+        private long lastDecrease = System.nanoTime() - TimeUnit.SECONDS.toNanos(1);
+
+        Limiter(String host, CrawlProperties props) {
+            CrawlProperties.HostLimit limit = props.getFetch().limitFor(host);
+            CrawlProperties.Adaptive adaptive = props.getFetch().getAdaptive();
+            this.permits = new Semaphore(Math.max(1, limit.getMaxConcurrency()), true);
+            this.breaker = new CircuitBreaker(props.getCircuit().getFailureThreshold(),
+                    TimeUnit.MILLISECONDS.toNanos(props.getCircuit().getOpenMillis()));
+            this.maxRate = limit.getRequestsPerSecond();
+            this.minRate = Math.min(maxRate, adaptive.getMinRequestsPerSecond());
+            this.step = adaptive.getIncreaseStep();
+            this.factor = adaptive.getDecreaseFactor();
+            this.rate = maxRate;
+        }
+
+        /** 요청 간격을 균등하게 배분: 각 요청이 자기 슬롯을 예약하고 그 시각까지 대기 */
+        void awaitSlot() throws InterruptedException {
+            long wait;
+            synchronized (this) {
+                long now = System.nanoTime();
+                long slot = Math.max(now, nextSlot);
+                nextSlot = slot + intervalNanos();
+                wait = slot - now;
+            }
+            if (wait > 0) TimeUnit.NANOSECONDS.sleep(wait);
+        }
+
+        private long intervalNanos() {
+            return rate <= 0 ? 0 : (long) (TimeUnit.SECONDS.toNanos(1) / rate);
+        }
+
+        synchronized void increase() {
+            if (maxRate > 0) rate = Math.min(maxRate, rate + step);
+        }
+
+        /** 동시에 날아간 요청들이 한꺼번에 429를 받아도 한 번만 줄이도록 1초에 한 번 */
+        synchronized void decrease() {
+            long now = System.nanoTime();
+            if (maxRate <= 0 || now - lastDecrease < TimeUnit.SECONDS.toNanos(1)) return;
+            lastDecrease = now;
+            rate = Math.max(minRate, rate * factor);
+        }
+
+        synchronized void pauseFor(long nanos) {
+            nextSlot = Math.max(nextSlot, System.nanoTime() + nanos);
+        }
+    }
+}
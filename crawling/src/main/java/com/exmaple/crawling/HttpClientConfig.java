@@ -0,0 +1,36 @@
+package com.exmaple.crawling;
+
+import jakarta.annotation.PreDestroy;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.net.http.HttpClient;
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * 모든 수집 요청이 공유하는 HttpClient (연결 풀/TLS 세션 재사용).
+ * keep-alive 시간·풀 크기는 JVM 전역 시스템 프로퍼티라 여기서 정하지 않는다 (CrawlingApplication.main 참고).
+ */
+@Configuration
+public class HttpClientConfig {
+    /** 응답 처리용. HttpClient.close는 넘겨받은 executor를 닫지 않으므로 클라이언트가 닫힌 뒤 여기서 닫는다 */
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+
+    @Bean(destroyMethod = "close")
+    public HttpClient crawlHttpClient(CrawlProperties props) {
+        CrawlProperties.Http cfg = props.getHttp();
+        return HttpClient.newBuilder()
+                .version(cfg.isHttp2() ? HttpClient.Version.HTTP_2 : HttpClient.Version.HTTP_1_1)
+                .followRedirects(HttpClient.Redirect.NORMAL)
+                .connectTimeout(Duration.ofMillis(cfg.getConnectTimeoutMillis()))
+                .executor(executor)
+                .build();
+    }
+
+    @PreDestroy
+    void closeExecutor() {
+        executor.close();
+    }
+}
@@ -0,0 +1,33 @@
+package com.exmaple.crawling;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/** 주기적으로 등록된 모든 포털·카테고리를 증분 모드로 갱신 (crawler.incremental.enabled=true일 때만) */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "crawler.incremental", name = "enabled", havingValue = "true")
+public class IncrementalCrawlScheduler {
+    private final NewsService newsService;
+    private final CrawlProperties props;
+
+    @Scheduled(fixedDelayString = "${crawler.incremental.interval:PT10M}",
+            initialDelayString = "${crawler.incremental.initial-delay:PT1M}")
+    public void refresh() {
+        int max = props.getIncremental().getMaxPerRun();
+        try {
+            for (CrawlPairResult r : newsService.crawlAll(max, true, CrawlListener.NONE)) {
+                if (r.error() != null) {
+                    log.atWarn().addKeyValue("source", r.source()).addKeyValue("category", r.category())
+                            .addKeyValue("error", r.error()).log("incremental crawl failed");
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
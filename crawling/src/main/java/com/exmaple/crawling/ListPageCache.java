@@ -0,0 +1,55 @@
+package com.exmaple.crawling;
+
+import org.springframework.stereotype.Component;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 목록 페이지 응답 캐시 (조건부 GET용). ETag/Last-Modified와 본문을 함께 두고,
+ * 전체 본문 크기가 maxBytes를 넘으면 가장 오래 안 쓴 항목부터 버린다.
+ */
+@Component
+public class ListPageCache {
+    public record Cached(String etag, String lastModified, FetchedPage page) {}
+
+    private final long maxBytes;
+    private final LinkedHashMap<String, Cached> entries = new LinkedHashMap<>(64, 0.75f, true);
+    private long bytes;
+
+    public ListPageCache(CrawlProperties props) {
+        CrawlProperties.ListCache cfg = props.getListCache();
+        this.maxBytes = cfg.isEnabled() ? cfg.getMaxBytes() : 0;
+    }
+
+    public synchronized Cached get(String url) {
+        return entries.get(url);
+    }
+
+    /** 검증자(ETag/Last-Modified)가 하나도 없는 응답은 재검증할 수 없으니 두지 않는다 */
+    public synchronized void put(String url, String etag, String lastModified, FetchedPage page) {
+        remove(url);
+        if ((etag == null && lastModified == null) || page.body().length > maxBytes) return;
+        entries.put(url, new Cached(etag, lastModified, page));
+        bytes += page.body().length;
+        Iterator<Map.Entry<String, Cached>> it = entries.entrySet().iterator();
+        while (bytes > maxBytes && it.hasNext()) {
+            bytes -= it.next().getValue().page().body().length;
+            it.remove();
+        }
+    }
+
+    public synchronized void remove(String url) {
+        Cached old = entries.remove(url);
+        if (old != null) bytes -= old.page().body().length;
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    public synchronized long bytes() {
+        return bytes;
+    }
+}
@@ -0,0 +1,141 @@
+package com.exmaple.crawling;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 네이버 과거 기사 백필. 날짜 범위를 (카테고리, 날짜) 조각으로 나눠 backfill.parallelism개씩 동시에 돌린다.
+ * 조각 안에서는 list.naver의 date=/page=를 한 페이지씩 넘기며, 페이지의 기사를 모두 저장한 뒤 체크포인트를 남긴다.
+ * 한 건이라도 가져오거나 파싱·저장하지 못하면 그 페이지에서 조각을 FAILED로 멈춘다 (다음 실행이 그 페이지부터 다시).
+ * 요청 속도는 HostThrottle의 호스트별 한도를 그대로 따르므로 조각 수를 늘려도 호스트 한도를 넘지 않는다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class NaverBackfillService {
+    private static final String SOURCE = "naver";
+
+    private final NewsService newsService;
+    private final CrawlPipeline pipeline;
+    private final CrawlFrontier frontier;
+    private final NaverExtractor naver;
+    private final BackfillCheckpoints checkpoints;
+    private final CrawlProperties props;
+    /** 다른 백필 작업이 같은 조각을 동시에 돌리지 않게 */
+    private final Set<String> running = ConcurrentHashMap.newKeySet();
+
+    /** from~to(포함)를 백필하고 이번에 저장한 기사 ID를 돌려준다. 이미 끝난 조각은 건너뛴다 */
+    public List<Long> backfill(Collection<String> categories, LocalDate from, LocalDate to,
+                               CrawlListener listener) throws InterruptedException {
+        if (from.isAfter(to)) throw new IllegalArgumentException("from is after to");
+        for (String c : categories) {
+            if (!naver.categories().contains(c)) throw new IllegalArgumentException("unknown category: " + c);
+        }
+
+        List<Long> saved = Collections.synchronizedList(new ArrayList<>());
+        int parallelism = Math.max(1, props.getBackfill().getParallelism());
+        try (ExecutorService pool = Executors.newFixedThreadPool(parallelism, Thread.ofVirtual().name("backfill-", 0).factory())) {
+            for (BackfillPartition p : checkpoints.open(SOURCE, categories, from, to)) {
+                if (p.getStatus() == BackfillPartition.Status.DONE) continue;
+                pool.submit(() -> runPartition(p, saved, listener));
+            }
+        } // 취소(인터럽트)되면 close가 남은 조각을 멈추고 인터럽트 상태를 되살린다
+        if (Thread.interrupted()) throw new InterruptedException();
+        return saved;
+    }
+
+    private void runPartition(BackfillPartition p, List<Long> saved, CrawlListener listener) {
+        String key = p.getCategory() + "/" + p.getListDate();
+        if (!running.add(key)) return;
+        String url = null;
+        try {
+            String category = p.getCategory();
+            Set<String> seen = new HashSet<>();
+            int page = p.getNextPage();
+            while (page <= props.getBackfill().getMaxPagesPerDay()) {
+                url = naver.listUrl(category, p.getListDate(), page);
+                PageFetcher.ListPage res = newsService.fetchList(url, naver.listTimeoutMillis(), SOURCE, category);
+                listener.onPage(url);
+
+                List<String> links = new ArrayList<>();
+                for (String link : naver.extractLinks(res.page().parse())) {
+                    if (seen.add(link)) links.add(link);
+                }
+                // 범위를 넘긴 page는 네이버가 마지막 페이지를 다시 보여준다 → 새 링크가 없으면 그 날짜 끝
+                if (links.isEmpty()) break;
+
+                List<String> fresh = frontier.filterUnknown(links);
+                FailureCounter counting = new FailureCounter(listener);
+                List<Long> ids = fresh.isEmpty() ? List.of() : pipeline.run(sink -> {
+                    for (String u : fresh) {
+                        if (!sink.offer(u)) return;
+                    }
+                }, newsService.articleParser(naver, category), naver.articleTimeoutMillis(),
+                        Integer.MAX_VALUE, "NAVER backfill", counting);
+                saved.addAll(ids);
+                if (Thread.currentThread().isInterrupted()) throw new InterruptedException(); // 중간에 끊긴 페이지
+                // 파이프라인은 실패를 로그로만 남기므로, 실패가 있던 페이지를 끝난 것으로 치면 그 기사들은 다시 오지 않는다.
+                // 저장된 기사는 frontier가 알고 있어 다음 실행에서는 실패한 것만 다시 가져온다
+                int failed = counting.failures.get();
+                if (failed > 0) {
+                    String message = failed + " of " + fresh.size() + " articles failed";
+                    log.atWarn().addKeyValue("category", category).addKeyValue("date", p.getListDate())
+                            .addKeyValue("url", url).addKeyValue("error", message).log("backfill page incomplete");
+                    checkpoints.finish(p, BackfillPartition.Status.FAILED, message + " on " + url);
+                    return;
+                }
+                checkpoints.pageDone(p, ++page, ids.size());
+            }
+            checkpoints.finish(p, BackfillPartition.Status.DONE, null);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt(); // 체크포인트는 마지막으로 끝낸 페이지에 남아 있다
+        } catch (Exception e) {
+            String message = e.getMessage() == null ? e.getClass().getSimpleName() : e.getMessage();
+            log.atWarn().addKeyValue("category", p.getCategory()).addKeyValue("date", p.getListDate())
+                    .addKeyValue("url", url).addKeyValue("error", message).log("backfill partition failed");
+            listener.onFailure(url, message);
+            checkpoints.finish(p, BackfillPartition.Status.FAILED, message);
+        } finally {
+            running.remove(key);
+        }
+    }
+
+    /** 받은 콜백은 그대로 넘기면서 기사 실패 수만 센다 */
+    private static final class FailureCounter implements CrawlListener {
+        private final CrawlListener delegate;
+        private final AtomicInteger failures = new AtomicInteger();
+
+        FailureCounter(CrawlListener delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public void onPage(String listUrl) {
+            delegate.onPage(listUrl);
+        }
+
+        @Override
+        public void onSaved(int count) {
+            delegate.onSaved(count);
+        }
+
+        @Override
+        public void onFailure(String url, String message) {
+            failures.incrementAndGet();
+            delegate.onFailure(url, message);
+        }
+    }
+}
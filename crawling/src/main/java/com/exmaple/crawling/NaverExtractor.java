@@ -0,0 +1,163 @@
+package com.exmaple.crawling;
+
+import org.jsoup.nodes.Document;
+import org.jsoup.nodes.Element;
+import org.jsoup.select.Elements;
+import org.jsoup.select.Evaluator;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+/** 네이버 뉴스: 날짜별 list.naver를 page 번호로 순회, 기사는 모바일 뷰(n.news) 기준 */
+@Component
+public class NaverExtractor implements SiteExtractor {
+    static final ZoneId KST = ZoneId.of("Asia/Seoul");
+
+    // --- Naver: 카테고리 코드 매핑 ---
+    private static final Map<String, String> NAVER_SID1 = Map.of(
+            "politics", "100",
+            "economy",  "101",
+            "society",  "102",
+            "world",    "104",
+            "digital",  "105"   // IT/과학
+    );
+
+    // PC read.naver 또는 mnews 둘 다 허용
+    private static final Evaluator ARTICLE_LINK = Selectors.css("a[href*=read.naver], a[href*=/mnews/article/]");
+    private static final Evaluator OG_TITLE = Selectors.css("meta[property=og:title]");
+    private static final Evaluator TITLE = Selectors.css("h2.media_end_head_headline, h2#title_area");
+    private static final Evaluator DIC_AREA = Selectors.css("#dic_area");
+    private static final Evaluator NEWSCT_ARTICLE = Selectors.css("#newsct_article");
+    // 화면용/공유/광고
+    private static final Evaluator NOISE = Selectors.css(
+            "script, style, aside, figure[data-type=photo-raw], .promotion, .media_end_categorize, .end_photo_org");
+    private static final Evaluator PUBLISHED = Selectors.css("meta[property=article:published_time]");
+    private static final Evaluator TIME = Selectors.css("span.media_end_head_info_datestamp_time, time");
+    private static final Evaluator JOURNALIST = Selectors.css(
+            ".media_end_head_journalist_name, span.byline, .journalistcard_summary_name__");
+    private static final Evaluator IMG = Selectors.css("img");
+    // 네이버 리사이즈 파라미터(type=, w=, t=) 한 번에 제거
+    private static final Pattern RESIZE_PARAMS = Pattern.compile("(?i)[?&](?:type=[^&]+|w=\\d+|t=\\w+)");
+
+    @Override
+    public String source() {
+        return "naver";
+    }
+
+    @Override
+    public Set<String> categories() {
+        return NAVER_SID1.keySet();
+    }
+
+    /** 카테고리별 오늘자(KST) 목록 1페이지 */
+    @Override
+    public String firstListUrl(String category) {
+        return listUrl(category, LocalDate.now(KST), 1);
+    }
+
+    public String listUrl(String category, LocalDate date, int page) {
+        String sid1 = NAVER_SID1.getOrDefault(category, "101"); // 기본 economy
+        return "https://news.naver.com/main/list.naver?mode=LSD&mid=sec&sid1=" + sid1
+                + "&date=" + date.format(DateTimeFormatter.BASIC_ISO_DATE) + "&page=" + page;
+    }
+
+    /** 가급적 모바일 상세로 통일 + 쿼리 제거 */
+    @Override
+    public List<String> extractLinks(Document list) {
+        Elements as = list.select(ARTICLE_LINK);
+        List<String> links = new ArrayList<>(as.size());
+        for (Element a : as) links.add(UrlCanonicalizer.canonical(a.attr("abs:href")));
+        return links;
+    }
+
+    /** 같은 날짜의 다음 page. 새 링크가 없으면 마지막 페이지(네이버는 범위를 넘으면 마지막 페이지를 반복) */
+    @Override
+    public String nextListUrl(Document list, String currentUrl, int page, boolean foundNew) {
+        if (!foundNew) return null;
+        int i = currentUrl.lastIndexOf("&page=");
+        return (i >= 0 ? currentUrl.substring(0, i) : currentUrl) + "&page=" + page;
+    }
+
+    @Override
+    public int articleTimeoutMillis() {
+        return 12000;
+    }
+
+    /** 네이버 상세 파싱: 모바일 뷰(n.news) 기준으로 제목/본문/이미지/기자/발행일 추출 */
+    @Override
+    public News parse(Document doc, String category) {
+        // 제목
+        String title = Selectors.meta(doc, OG_TITLE);
+        if (title == null) {
+            Element h2 = doc.selectFirst(TITLE);
+            if (h2 != null) title = h2.text();
+        }
+
+        // 본문: 모바일은 보통 #dic_area, 데스크탑 신형은 #newsct_article
+        Element bodyEl = doc.selectFirst(DIC_AREA);
+        if (bodyEl == null) bodyEl = doc.selectFirst(NEWSCT_ARTICLE);
+
+        String content = "";
+        List<String> images = List.of();
+        if (bodyEl != null) {
+            bodyEl.select(NOISE).remove();
+            // 본문 텍스트 + 이미지 URL
+            content = bodyEl.text().trim();
+            images = collectNaverImages(bodyEl);
+        }
+        if (title == null || (content.isBlank() && images.isEmpty())) return null;
+
+        // 발행일(og:article:published_time 또는 time 태그)
+        String published = Selectors.meta(doc, PUBLISHED);
+        if (published == null) {
+            Element t = doc.selectFirst(TIME);
+            if (t != null) {
+                String dt = t.hasAttr("datetime") ? t.attr("datetime") : t.text();
+                if (!dt.isBlank()) published = dt;
+            }
+        }
+
+        // 기자명(있으면)
+        String author = null;
+        Element jour = doc.selectFirst(JOURNALIST);
+        if (jour != null) author = jour.text();
+
+        News n = new News();
+        n.setTitle(title);
+        n.setBodyText(content);
+        n.setImages(images);
+        n.setAuthor(author);
+        n.setPostDate(PostDates.parse(published));
+        n.setCategory(category);
+        n.setSource(source());
+        n.setSourceUrl(UrlCanonicalizer.canonical(doc.location()));
+        return n;
+    }
+
+    /** 네이버 이미지: lazy-load(data-src) 또는 srcset에서 원본에 가까운 URL 고르기 */
+    static List<String> collectNaverImages(Element container) {
+        LinkedHashSet<String> set = new LinkedHashSet<>();
+        for (Element img : container.select(IMG)) {
+            String u = img.hasAttr("data-src") ? img.attr("abs:data-src")
+                    : img.hasAttr("src") ? img.attr("abs:src")
+                    : "";
+            // srcset이 더 고해상도면 첫 항목 사용
+            if (u.isBlank() && img.hasAttr("srcset")) u = Selectors.firstSrcset(img);
+            if (u.isBlank()) continue;
+            set.add(stripResizeParams(u));
+        }
+        return List.copyOf(set);
+    }
+
+    static String stripResizeParams(String u) {
+        return u.indexOf('?') < 0 && u.indexOf('&') < 0 ? u : RESIZE_PARAMS.matcher(u).replaceAll("");
+    }
+}
@@ -0,0 +1,62 @@
+package com.exmaple.crawling;
+
+import jakarta.transaction.Transactional;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.stream.Stream;
+
+/**
+ * 포털·URL만 다른 같은 기사(통신사 전재 등) 판별. 지문은 parse 단계에서 계산해 News.simhash에 남기고,
+ * 저장 직전에 메모리의 SimHashIndex로 이미 저장된 기사와 비교한다. 인덱스는 시작 시 DB의 simhash 열로 채운다.
+ */
+@Component
+@RequiredArgsConstructor
+public class NearDuplicateDetector {
+    private final NewsRepository repo;
+    private final CrawlProperties props;
+    private final SimHashIndex index = new SimHashIndex();
+
+    @Transactional
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        try (Stream<NewsFingerprint> fps = repo.streamFingerprints()) {
+            fps.forEach(f -> index.add(f.simhash(), f.id()));
+        }
+    }
+
+    public boolean enabled() {
+        return props.getDedup().getMode() != CrawlProperties.Dedup.Mode.OFF;
+    }
+
+    /** parse 단계: 본문 지문 계산 */
+    public void fingerprint(News n) {
+        if (n != null && enabled()) n.setSimhash(SimHash.of(n.getBodyText(), props.getDedup().getMinChars()));
+    }
+
+    /** 이미 저장된 거의 같은 기사의 ID. 없거나 지문이 없으면 null */
+    public Long findDuplicate(News n) {
+        if (!enabled() || n.getSimhash() == null) return null;
+        return index.find(n.getSimhash(), maxDistance());
+    }
+
+    public int maxDistance() {
+        return Math.min(props.getDedup().getMaxDistance(), SimHashIndex.MAX_DISTANCE);
+    }
+
+    /** 원본으로 저장된 기사만 인덱스에 (링크된 사본은 넣지 않는다) */
+    public void indexSaved(Collection<News> saved) {
+        for (News n : saved) {
+            if (n.getSimhash() != null && n.getDuplicateOf() == null && n.getId() != null) {
+                index.add(n.getSimhash(), n.getId());
+            }
+        }
+    }
+
+    public int indexedCount() {
+        return index.size();
+    }
+}
@@ -4,17 +4,99 @@ import jakarta.persistence.*;
 import lombok.Getter;
 import lombok.Setter;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
 @Entity
 @Getter
 @Setter
+// 목록 API의 keyset 페이지네이션: (필터 열, post_date, id) 내림차순으로 훑는다
+@Table(indexes = {
+        @Index(name = "idx_news_category_post_date", columnList = "category, post_date, id"),
+        @Index(name = "idx_news_source_post_date", columnList = "source, post_date, id"),
+        @Index(name = "idx_news_post_date", columnList = "post_date, id")
+})
 public class News {
+    static final String IMAGES_MARK = "\n\n[IMAGES]\n";
+
     @Id
-    @GeneratedValue(strategy = GenerationType.AUTO)
+    // pooled 시퀀스: 50개씩 미리 받아와 INSERT를 JDBC 배치로 묶을 수 있게 (IDENTITY는 배치 불가)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "news_seq")
+    @SequenceGenerator(name = "news_seq", sequenceName = "news_seq", allocationSize = 50)
     private Long id;
     private String title;
-    @Lob
-    private String content;
+    /** 본문 (압축 저장, 지연 로딩). 링크된 사본은 null */
+    @OneToOne(fetch = FetchType.LAZY, cascade = CascadeType.ALL, orphanRemoval = true)
+    @JoinColumn(name = "body_id")
+    private NewsBody body;
+    /** 본문 이미지 URL (원본 크기, 본문에 나온 순서) */
+    @ElementCollection
+    @CollectionTable(name = "news_image", joinColumns = @JoinColumn(name = "news_id"))
+    @OrderColumn(name = "position")
+    @Column(name = "url", length = 1024)
+    private List<String> images = new ArrayList<>();
     private String author;
-    private String postDate;
+    /** 발행 시각 (한국 시간). 포털 표기를 PostDates로 해석, 못 하면 null */
+    @Column(name = "post_date")
+    private LocalDateTime postDate;
     private String category;
+    /** daum / naver */
+    private String source;
+    /** 정규화된 기사 URL (UrlCanonicalizer). 재수집 시 중복 저장을 막는 유니크 키 */
+    @Column(length = 512, unique = true)
+    private String sourceUrl;
+    /** 정규화한 본문의 SimHash (NearDuplicateDetector). 본문이 짧으면 null */
+    private Long simhash;
+    /** 다른 포털/URL에서 먼저 저장된 같은 기사의 id. 이 경우 본문·이미지는 비워 둔다 */
+    private Long duplicateOf;
+
+    public String getBodyText() {
+        return body == null ? null : body.getText();
+    }
+
+    public void setBodyText(String text) {
+        if (text == null) body = null;
+        else if (body == null) body = new NewsBody(text);
+        else body.setText(text);
+    }
+
+    /**
+     * 롤백된 배치를 한 건씩 다시 저장하기 전에 호출. 실패한 persist가 cascade로 본문에 준 id와
+     * 옛 세션에 묶인 이미지 컬렉션까지 버려야 새 엔티티로 persist된다 (아니면 detached entity passed to persist).
+     */
+    public void resetForRetry() {
+        id = null;
+        if (body != null) body = new NewsBody(body.getText());
+        images = new ArrayList<>(images);
+    }
+
+    /** 관리 중인 컬렉션은 그대로 두고 내용만 바꾼다 */
+    public void setImages(List<String> urls) {
+        images.clear();
+        if (urls != null) images.addAll(urls);
+    }
+
+    /** 예전 단일 content 형식: 본문 + "[IMAGES]" 블록에 이미지 URL 한 줄씩. 본문도 이미지도 없으면 null */
+    public String getContent() {
+        String text = getBodyText();
+        if (images.isEmpty()) return text;
+        return (text == null ? "" : text) + IMAGES_MARK + String.join("\n", images);
+    }
+
+    /** getContent 형식을 받아 본문과 이미지로 나눠 담는다 */
+    public void setContent(String content) {
+        int mark = content == null ? -1 : content.indexOf(IMAGES_MARK);
+        if (mark < 0) {
+            setBodyText(content);
+            setImages(null);
+            return;
+        }
+        setBodyText(content.substring(0, mark));
+        List<String> urls = new ArrayList<>();
+        for (String line : content.substring(mark + IMAGES_MARK.length()).split("\n")) {
+            if (!line.isBlank()) urls.add(line.strip());
+        }
+        setImages(urls);
+    }
 }
@@ -0,0 +1,30 @@
+package com.exmaple.crawling;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * 기사 본문. News에서 지연 로딩되는 별도 행이라 목록·중복 판정처럼 본문이 필요 없는 로딩은 이 테이블을 건드리지 않는다.
+ * DB에는 deflate로 압축한 바이트로 저장되고 읽을 때 풀린다 (DeflateConverter).
+ */
+@Entity
+@Getter
+@Setter
+@NoArgsConstructor
+@Table(name = "news_body")
+public class NewsBody {
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "news_body_seq")
+    @SequenceGenerator(name = "news_body_seq", sequenceName = "news_body_seq", allocationSize = 50)
+    private Long id;
+    @Lob
+    @Convert(converter = DeflateConverter.class)
+    @Column(name = "compressed")
+    private String text;
+
+    public NewsBody(String text) {
+        this.text = text;
+    }
+}
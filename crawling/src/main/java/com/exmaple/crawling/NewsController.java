@@ -0,0 +1,80 @@
+package com.exmaple.crawling;
+
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.zip.GZIPOutputStream;
+
+/** 수집된 기사 조회 (목록은 본문 없이, 상세에서만 본문) */
+@RestController
+@RequestMapping("/news")
+@RequiredArgsConstructor
+public class NewsController {
+    private final NewsReader reader;
+    private final NewsExporter exporter;
+
+    /** 최신 발행순. 다음 페이지는 응답의 next를 cursor로 넘긴다 */
+    @GetMapping
+    public NewsPage list(@RequestParam(required = false) String category,
+                         @RequestParam(required = false) String source,
+                         @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+                         @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+                         @RequestParam(required = false) String cursor,
+                         @RequestParam(defaultValue = "20") int size) {
+        try {
+            return reader.list(category, source, from, to, cursor, size);
+        } catch (IllegalArgumentException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, e.getMessage());
+        }
+    }
+
+    /** 본문·제목 검색 (관련도순). 한글은 두 글자 이상이어야 잘 맞는다 */
+    @GetMapping("/search")
+    public List<SearchResult> search(@RequestParam String q, @RequestParam(defaultValue = "10") int k) {
+        if (q.isBlank()) throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "q is required");
+        return reader.search(q, k);
+    }
+
+    /**
+     * 전체 덤프를 NDJSON으로 흘려보낸다 (id 오름차순). 증분으로 받을 때는 마지막 줄의 id를 sinceId로.
+     * gzip=true면 Content-Encoding: gzip으로 압축해서 보낸다.
+     */
+    @GetMapping("/export")
+    public void export(@RequestParam(required = false) Long sinceId,
+                       @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime since,
+                       @RequestParam(defaultValue = "false") boolean gzip,
+                       HttpServletResponse response) throws IOException {
+        response.setContentType("application/x-ndjson");
+        response.setCharacterEncoding("UTF-8");
+        if (gzip) response.setHeader(HttpHeaders.CONTENT_ENCODING, "gzip");
+        OutputStream out = response.getOutputStream();
+        if (gzip) {
+            try (GZIPOutputStream gz = new GZIPOutputStream(out, 64 * 1024)) {
+                exporter.export(sinceId, since, gz);
+            }
+        } else {
+            exporter.export(sinceId, since, out);
+            out.flush();
+        }
+    }
+
+    @GetMapping("/{id}")
+    public NewsDetail detail(@PathVariable Long id) {
+        return reader.detail(id)
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "no such news: " + id));
+    }
+}
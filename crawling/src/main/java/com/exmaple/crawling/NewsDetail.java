@@ -0,0 +1,13 @@
+package com.exmaple.crawling;
+
+import java.time.LocalDateTime;
+
+/** 상세 API 응답. 링크된 사본(duplicateOf)이면 원본 기사의 본문을 채워 준다 */
+public record NewsDetail(Long id, String title, String author, LocalDateTime postDate,
+                         String category, String source, String sourceUrl, Long duplicateOf, String content) {
+
+    static NewsDetail of(News n, String content) {
+        return new NewsDetail(n.getId(), n.getTitle(), n.getAuthor(), n.getPostDate(), n.getCategory(),
+                n.getSource(), n.getSourceUrl(), n.getDuplicateOf(), content);
+    }
+}
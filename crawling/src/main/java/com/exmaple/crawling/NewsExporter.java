@@ -0,0 +1,135 @@
+package com.exmaple.crawling;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.util.MinimalPrettyPrinter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 전체 기사 덤프 (한 줄에 기사 하나인 NDJSON).
+ * 엔티티를 만들지 않고 JDBC 전진 전용 커서로 fetchSize행씩 받아 바로 출력 스트림에 쓰므로
+ * 테이블 크기와 상관없이 메모리에는 한 묶음만 있다. id 오름차순이라 마지막 줄의 id를 다음 sinceId로 쓰면 된다.
+ * 본문은 news_body의 압축을 풀어 content로, 이미지는 한 묶음마다 news_image를 IN 조회해 images 배열로 쓴다.
+ */
+@Component
+public class NewsExporter {
+    private static final String COLUMNS = "n.id, n.title, b.compressed, n.author, n.post_date, n.category, "
+            + "n.source, n.source_url, n.simhash, n.duplicate_of";
+
+    private record Row(long id, String title, byte[] body, String author, LocalDateTime postDate, String category,
+                       String source, String sourceUrl, Long simhash, Long duplicateOf) {}
+
+    private final JdbcTemplate jdbc;
+    private final NamedParameterJdbcTemplate named;
+    private final int chunk;
+    private final JsonFactory json = new JsonFactory();
+
+    public NewsExporter(DataSource dataSource, CrawlProperties props) {
+        this.chunk = Math.max(1, props.getExport().getFetchSize());
+        this.jdbc = new JdbcTemplate(dataSource);
+        this.jdbc.setFetchSize(chunk);
+        this.named = new NamedParameterJdbcTemplate(dataSource);
+    }
+
+    /**
+     * @param sinceId 이 id보다 큰 기사만, null이면 처음부터
+     * @param since   발행 시각이 이 이후(포함)인 기사만, null이면 제한 없음
+     * @return 쓴 줄 수
+     */
+    public long export(Long sinceId, LocalDateTime since, OutputStream out) throws IOException {
+        StringBuilder sql = new StringBuilder(
+                "select " + COLUMNS + " from news n left join news_body b on b.id = n.body_id where 1 = 1");
+        List<Object> args = new ArrayList<>(2);
+        if (sinceId != null) {
+            sql.append(" and n.id > ?");
+            args.add(sinceId);
+        }
+        if (since != null) {
+            sql.append(" and n.post_date >= ?");
+            args.add(since);
+        }
+        sql.append(" order by n.id");
+
+        long[] count = {0};
+        List<Row> pending = new ArrayList<>(chunk);
+        try (JsonGenerator gen = json.createGenerator(out)) {
+            gen.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            gen.setPrettyPrinter(new MinimalPrettyPrinter(""));
+            jdbc.query(sql.toString(), rs -> {
+                pending.add(row(rs));
+                if (pending.size() >= chunk) count[0] += writeChunk(gen, pending);
+            }, args.toArray());
+            count[0] += writeChunk(gen, pending);
+        }
+        return count[0];
+    }
+
+    private static Row row(ResultSet rs) throws SQLException {
+        return new Row(rs.getLong("id"), rs.getString("title"), rs.getBytes("compressed"), rs.getString("author"),
+                rs.getObject("post_date", LocalDateTime.class), rs.getString("category"), rs.getString("source"),
+                rs.getString("source_url"), nullableLong(rs, "simhash"), nullableLong(rs, "duplicate_of"));
+    }
+
+    /** 묶음의 이미지를 한 번에 읽어 붙여 쓰고 비운다. 클라이언트가 끊으면 예외로 커서도 닫힌다 */
+    private int writeChunk(JsonGenerator gen, List<Row> rows) {
+        if (rows.isEmpty()) return 0;
+        List<Long> ids = new ArrayList<>(rows.size());
+        for (Row r : rows) ids.add(r.id());
+        Map<Long, List<String>> images = new HashMap<>();
+        named.query("select news_id, url from news_image where news_id in (:ids) order by news_id, position",
+                Map.of("ids", ids),
+                (RowCallbackHandler) rs -> images.computeIfAbsent(rs.getLong(1), k -> new ArrayList<>()).add(rs.getString(2)));
+        try {
+            for (Row r : rows) writeRow(gen, r, images.getOrDefault(r.id(), List.of()));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        int n = rows.size();
+        rows.clear();
+        return n;
+    }
+
+    private static void writeRow(JsonGenerator gen, Row r, List<String> images) throws IOException {
+        gen.writeStartObject();
+        gen.writeNumberField("id", r.id());
+        gen.writeStringField("title", r.title());
+        gen.writeStringField("content", r.body() == null ? null : DeflateConverter.decompress(r.body()));
+        gen.writeArrayFieldStart("images");
+        for (String url : images) gen.writeString(url);
+        gen.writeEndArray();
+        gen.writeStringField("author", r.author());
+        gen.writeStringField("postDate", r.postDate() == null ? null : r.postDate().toString());
+        gen.writeStringField("category", r.category());
+        gen.writeStringField("source", r.source());
+        gen.writeStringField("sourceUrl", r.sourceUrl());
+        writeNullableLong(gen, "simhash", r.simhash());
+        writeNullableLong(gen, "duplicateOf", r.duplicateOf());
+        gen.writeEndObject();
+        gen.writeRaw('\n');
+    }
+
+    private static Long nullableLong(ResultSet rs, String column) throws SQLException {
+        long v = rs.getLong(column);
+        return rs.wasNull() ? null : v;
+    }
+
+    private static void writeNullableLong(JsonGenerator gen, String field, Long v) throws IOException {
+        if (v == null) gen.writeNullField(field);
+        else gen.writeNumberField(field, v);
+    }
+}
@@ -0,0 +1,4 @@
+package com.exmaple.crawling;
+
+/** 중복 인덱스 예열용 프로젝션 (LOB 없이 id, simhash만) */
+public record NewsFingerprint(Long id, Long simhash) {}
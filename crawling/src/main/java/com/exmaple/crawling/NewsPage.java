@@ -0,0 +1,6 @@
+package com.exmaple.crawling;
+
+import java.util.List;
+
+/** keyset 페이지. next가 null이면 마지막 페이지, 아니면 다음 요청의 cursor로 그대로 넘긴다 */
+public record NewsPage(List<NewsSummary> items, String next) {}
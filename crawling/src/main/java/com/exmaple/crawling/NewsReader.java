@@ -0,0 +1,126 @@
+package com.exmaple.crawling;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.TypedQuery;
+import jakarta.transaction.Transactional;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * 수집된 기사 조회. 목록은 (post_date, id) 내림차순 keyset 페이지네이션이라
+ * 몇 번째 페이지든 인덱스에서 커서 위치부터 size+1건만 읽는다 (OFFSET 없음). 본문(news_body)은 상세 조회에서만.
+ */
+@Component
+@RequiredArgsConstructor
+public class NewsReader {
+    static final int MAX_PAGE_SIZE = 100;
+
+    private final EntityManager em;
+    private final NewsRepository repo;
+    private final SearchIndex search;
+
+    /**
+     * 발행일 없는 기사는 정렬 기준이 없어 목록에서 빠진다.
+     * @param from 이 날짜 0시부터 (포함), null이면 제한 없음
+     * @param to   이 날짜 끝까지 (포함), null이면 제한 없음
+     */
+    public NewsPage list(String category, String source, LocalDate from, LocalDate to, String cursor, int size) {
+        int limit = Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+        Map<String, Object> params = new LinkedHashMap<>();
+        StringBuilder jpql = new StringBuilder(
+                "select new com.exmaple.crawling.NewsSummary(n.id, n.title, n.author, n.postDate, "
+                        + "n.category, n.source, n.sourceUrl, n.duplicateOf) from News n where n.postDate is not null");
+        if (category != null) {
+            jpql.append(" and n.category = :category");
+            params.put("category", category);
+        }
+        if (source != null) {
+            jpql.append(" and n.source = :source");
+            params.put("source", source);
+        }
+        if (from != null) {
+            jpql.append(" and n.postDate >= :from");
+            params.put("from", from.atStartOfDay());
+        }
+        if (to != null) {
+            jpql.append(" and n.postDate < :to");
+            params.put("to", to.plusDays(1).atStartOfDay());
+        }
+        Cursor c = Cursor.decode(cursor);
+        if (c != null) {
+            jpql.append(" and (n.postDate < :cursorDate or (n.postDate = :cursorDate and n.id < :cursorId))");
+            params.put("cursorDate", c.postDate());
+            params.put("cursorId", c.id());
+        }
+        jpql.append(" order by n.postDate desc, n.id desc");
+
+        TypedQuery<NewsSummary> q = em.createQuery(jpql.toString(), NewsSummary.class);
+        params.forEach(q::setParameter);
+        List<NewsSummary> rows = q.setMaxResults(limit + 1).getResultList();
+
+        if (rows.size() <= limit) return new NewsPage(rows, null);
+        List<NewsSummary> page = rows.subList(0, limit);
+        NewsSummary last = page.get(limit - 1);
+        return new NewsPage(List.copyOf(page), new Cursor(last.postDate(), last.id()).encode());
+    }
+
+    /** 본문은 지연 로딩이라 트랜잭션 안에서 조립한다 */
+    @Transactional
+    public Optional<NewsDetail> detail(Long id) {
+        return repo.findById(id).map(n -> {
+            String content = n.getContent();
+            if (n.getDuplicateOf() != null && content == null) {
+                content = repo.findById(n.getDuplicateOf()).map(News::getContent).orElse(null);
+            }
+            return NewsDetail.of(n, content);
+        });
+    }
+
+    /** 본문 검색 상위 k건. 색인에는 있지만 DB에서 지워진 기사는 빠진다 */
+    public List<SearchResult> search(String query, int k) {
+        List<SearchIndex.Hit> hits = search.search(query, Math.max(1, Math.min(k, MAX_PAGE_SIZE)));
+        if (hits.isEmpty()) return List.of();
+        List<Long> ids = new ArrayList<>(hits.size());
+        for (SearchIndex.Hit h : hits) ids.add(h.id());
+        Map<Long, NewsSummary> byId = new HashMap<>();
+        for (NewsSummary s : repo.findSummariesByIdIn(ids)) byId.put(s.id(), s);
+
+        List<SearchResult> results = new ArrayList<>(hits.size());
+        for (SearchIndex.Hit h : hits) {
+            NewsSummary s = byId.get(h.id());
+            if (s != null) results.add(new SearchResult(s, h.score()));
+        }
+        return results;
+    }
+
+    /** 마지막으로 본 행의 (postDate, id). 클라이언트에는 불투명한 base64 문자열로 */
+    record Cursor(LocalDateTime postDate, long id) {
+
+        String encode() {
+            String raw = postDate + "," + id;
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+        }
+
+        static Cursor decode(String cursor) {
+            if (cursor == null || cursor.isBlank()) return null;
+            try {
+                String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+                int comma = raw.lastIndexOf(',');
+                return new Cursor(LocalDateTime.parse(raw.substring(0, comma)), Long.parseLong(raw.substring(comma + 1)));
+            } catch (Exception e) {
+                throw new IllegalArgumentException("invalid cursor");
+            }
+        }
+    }
+}
@@ -1,8 +1,45 @@
 package com.exmaple.crawling;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.hibernate.jpa.HibernateHints.HINT_FETCH_SIZE;
+
 @Repository
 public interface NewsRepository extends JpaRepository<News, Long> {
+
+    /** Bloom filter 예열용. 트랜잭션 안에서 스트리밍으로 읽는다 */
+    @QueryHints(@jakarta.persistence.QueryHint(name = HINT_FETCH_SIZE, value = "1000"))
+    @Query("select n.sourceUrl from News n where n.sourceUrl is not null")
+    Stream<String> streamSourceUrls();
+
+    @Query("select n.sourceUrl from News n where n.sourceUrl in :urls")
+    List<String> findExistingSourceUrls(Collection<String> urls);
+
+    List<News> findBySourceUrlIn(Collection<String> urls);
+
+    /** 중복 인덱스 예열용. 원본 기사(duplicateOf 없음)의 지문만 */
+    @QueryHints(@jakarta.persistence.QueryHint(name = HINT_FETCH_SIZE, value = "1000"))
+    @Query("select new com.exmaple.crawling.NewsFingerprint(n.id, n.simhash) from News n "
+            + "where n.simhash is not null and n.duplicateOf is null")
+    Stream<NewsFingerprint> streamFingerprints();
+
+    /** 검색 색인 재구성/따라잡기용. afterId 뒤의 원본 기사만 ID 순으로 */
+    @QueryHints(@jakarta.persistence.QueryHint(name = HINT_FETCH_SIZE, value = "200"))
+    @Query("select new com.exmaple.crawling.NewsText(n.id, n.sourceUrl, n.title, b.text) from News n join n.body b "
+            + "where n.id > :afterId and n.duplicateOf is null order by n.id")
+    Stream<NewsText> streamForIndex(long afterId);
+
+    /** 검색 색인 manifest가 이 DB의 것인지 확인 */
+    boolean existsByIdAndSourceUrl(Long id, String sourceUrl);
+
+    @Query("select new com.exmaple.crawling.NewsSummary(n.id, n.title, n.author, n.postDate, "
+            + "n.category, n.source, n.sourceUrl, n.duplicateOf) from News n where n.id in :ids")
+    List<NewsSummary> findSummariesByIdIn(Collection<Long> ids);
 }
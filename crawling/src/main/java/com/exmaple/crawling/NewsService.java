@@ -1,468 +1,201 @@
 package com.exmaple.crawling;
 
-import com.fasterxml.jackson.databind.JsonNode;
-import com.fasterxml.jackson.databind.ObjectMapper;
-import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
-import org.jsoup.Jsoup;
 import org.jsoup.nodes.Document;
-import org.jsoup.nodes.Element;
-import org.jsoup.select.Elements;
 import org.springframework.stereotype.Service;
 
-import java.net.URLDecoder;
-import java.nio.charset.StandardCharsets;
 import java.util.*;
-import java.util.stream.Collectors;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 
 @Service
 @RequiredArgsConstructor
 public class NewsService {
-    private final NewsRepository repo;
-    private final ObjectMapper mapper = new ObjectMapper();
-
-    private static final Map<String, String> CATEGORY_URL = Map.of(
-            "politics", "https://news.daum.net/politics",
-            "economy",  "https://news.daum.net/economy",
-            "society",  "https://news.daum.net/society",
-            "world",    "https://news.daum.net/world",
-            "digital",  "https://news.daum.net/digital"
-    );
-
-
-
-    /** 필요 개수(want)만큼 페이지네이션 따라가며 수집 */
-    @Transactional
-    public List<Long> crawlCategory(String category, int want) throws Exception {
-        String nextUrl = CATEGORY_URL.getOrDefault(category, CATEGORY_URL.get("economy"));
-
-        // 전역 중복 방지
-        Set<String> seen = new LinkedHashSet<>();
-        List<Long> savedIds = new ArrayList<>();
-
-        while (nextUrl != null && savedIds.size() < want) {
-            Document list;
-            try {
-                list = Jsoup.connect(nextUrl)
-                        .userAgent("Mozilla/5.0")
-                        .timeout(15000)
-                        .get();
-            } catch (org.jsoup.HttpStatusException hse) {
-                if (hse.getStatusCode() == 429 || hse.getStatusCode() == 503) {
-                    // 잠깐 쉬고 재시도
-                    Thread.sleep(5000);
-                    continue;
-                }
-                throw hse;
+    private final PageFetcher fetcher;
+    private final CrawlPipeline pipeline;
+    private final CrawlFrontier frontier;
+    private final CrawlWatermarks watermarks;
+    private final SiteExtractorRegistry extractors;
+    private final CrawlArchive archive;
+    private final NearDuplicateDetector dedup;
+    private final CrawlMetrics metrics;
+
+    /**
+     * 등록된 모든 포털 × 카테고리를 한꺼번에 병렬 수집.
+     * 동시 요청 수·대역폭은 HostThrottle/BandwidthLimiter의 전역 예산과 호스트별 한도를 함께 따르므로
+     * 전체 소요 시간은 가장 느린 카테고리에 가까워진다.
+     */
+    public List<CrawlPairResult> crawlAll(int wantPerPair, boolean incremental,
+                                          CrawlListener listener) throws InterruptedException {
+        List<Callable<CrawlPairResult>> tasks = new ArrayList<>();
+        for (SiteExtractor ex : extractors.all()) {
+            for (String category : ex.categories()) {
+                tasks.add(() -> runPair(ex.source(), category,
+                        () -> crawl(ex.source(), category, wantPerPair, incremental, listener)));
             }
+        }
 
-            // 이 페이지에서 기사 링크 수집
-            List<String> links = list.select("a[href*=/v/]").stream()
-                    .map(a -> a.attr("abs:href"))
-                    .filter(seen::add) // 페이지 간 중복 제거
-                    .collect(Collectors.toList());
-
-            for (String url : links) {
-                if (savedIds.size() >= want) break;
+        List<CrawlPairResult> results = new ArrayList<>(tasks.size());
+        try (ExecutorService pool = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (Future<CrawlPairResult> f : pool.invokeAll(tasks)) {
                 try {
-                    News news = parseArticle(url, category);
-                    if (news == null) continue;
-                    repo.save(news);
-                    savedIds.add(news.getId());
-                    politeDelay();
-                } catch (Exception e) {
-                    System.err.println("Failed: " + url + " => " + e.getMessage());
+                    results.add(f.get());
+                } catch (ExecutionException e) {
+                    throw new IllegalStateException(e.getCause());
                 }
             }
-
-            // 다음 페이지 이동
-            nextUrl = findNextPageUrl(list);
-            if (nextUrl != null && nextUrl.equalsIgnoreCase(list.location())) nextUrl = null;
-            politeDelay();
         }
-
-        return savedIds;
+        return results;
     }
 
-    /** 상세 기사 파싱: 제목/본문/기자/발행일 + 이미지URL들을 content에 합친다 */
-    private News parseArticle(String url, String category) throws Exception {
-        Document doc = Jsoup.connect(url).userAgent("Mozilla/5.0").timeout(10000).get();
-
-        // 제목
-        String title = meta(doc, "meta[property=og:title]");
-        if (title == null) {
-            Element h = doc.selectFirst("h3.tit_view");
-            if (h != null) title = h.text();
-        }
-
-        // 본문 컨테이너
-        Element hc = doc.selectFirst("#harmonyContainer");
-        if (hc == null) hc = doc.selectFirst("#mArticle");
-
-        if (hc != null) {
-            // 화면용/광고/유틸 영역 제거
-            hc.select("aside, nav, .btn_util, .util_view, .voice_area, .translate_btn, " +
-                            ".tool_trans, .copyright, .foot_view, .relate_news, .kakao_ad, " +
-                            ".ad_player, .realtime_view, .keyword_view")
-                    .remove();
-        }
-
-        // 1) JSON-LD articleBody 우선
-        String content = extractBodyFromJsonLd(doc);
-
-        // 2) 없으면 DOM에서 p만 모으기 + UI 문자열 필터
-        if (content == null || content.isBlank()) {
-            Elements paras = hc != null ? hc.select("section p") : new Elements();
-            if (paras.isEmpty() && hc != null) paras = hc.select("p");
-
-            StringBuilder body = new StringBuilder();
-            for (Element p : paras) {
-                String t = p.text().trim();
-                if (t.isBlank()) continue;
-                if (t.contains("번역beta") || t.startsWith("Translated by")
-                        || t.startsWith("글씨크기") || t.startsWith("인쇄하기")
-                        || t.contains("무단전재") || t.contains("재배포 금지")) continue;
-                body.append(t).append("\n\n");
-            }
-            content = body.toString().trim();
+    private static CrawlPairResult runPair(String source, String category, Callable<List<Long>> crawl) {
+        long start = System.nanoTime();
+        List<Long> ids = List.of();
+        String error = null;
+        try {
+            ids = crawl.call();
+        } catch (Exception e) {
+            error = e.getMessage() == null ? e.getClass().getSimpleName() : e.getMessage();
         }
-
-        if (content == null || content.isBlank()) return null;
-
-        // 발행일
-        String published = meta(doc, "meta[property=article:published_time], meta[name=date], meta[name=pubdate]");
-
-        // 기자명
-        String author = null;
-        Element rep = doc.selectFirst(".info_view .txt_info, .name_reporter");
-        if (rep != null) author = rep.text();
-
-        // 이미지 URL 수집 (원본 복원)
-        String imagesBlock = collectImages(hc);
-        if (!imagesBlock.isBlank()) content = content + "\n\n[IMAGES]\n" + imagesBlock;
-
-        News n = new News();
-        n.setTitle(title);
-        n.setContent(content);
-        n.setAuthor(author);
-        n.setPostDate(published);
-        n.setCategory(category);
-        return n;
+        long elapsed = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+        return new CrawlPairResult(source, category, ids.size(), ids, error, elapsed);
     }
 
-    // ----- 헬퍼들 -----
-
-    /** 목록 페이지에서 '다음/더보기/rel=next' 등 링크 탐색 */
-    private String findNextPageUrl(Document list) {
-        Element next = list.selectFirst(
-                ".paging a.next, a:matchesOwn(다음|더보기|Next|›), a[rel=next], a[href*='page=']"
-        );
-        return next == null ? null : next.attr("abs:href");
+    /** 필요 개수(want)만큼 페이지네이션 따라가며 수집 */
+    public List<Long> crawlCategory(String category, int want) throws Exception {
+        return crawlCategory(category, want, false);
     }
 
-    private void politeDelay() {
-        try { Thread.sleep(200 + (long)(Math.random() * 400)); } catch (InterruptedException ignored) {}
+    public List<Long> crawlCategory(String category, int want, boolean incremental) throws Exception {
+        return crawlCategory(category, want, incremental, CrawlListener.NONE);
     }
 
-    private static String meta(Document d, String sel) {
-        Element e = d.selectFirst(sel);
-        return e == null ? null : e.attr("content");
+    public List<Long> crawlCategory(String category, int want, boolean incremental,
+                                    CrawlListener listener) throws Exception {
+        return crawl("daum", category, want, incremental, listener);
     }
 
-    /** JSON-LD에서 articleBody 추출 (가장 깨끗함) */
-    private String extractBodyFromJsonLd(Document doc) {
-        Elements ld = doc.select("script[type=application/ld+json]");
-        for (Element s : ld) {
-            try {
-                JsonNode node = mapper.readTree(s.data());
-                if (node == null) continue;
-                if (node.isArray()) {
-                    for (JsonNode n : node) {
-                        if (isArticleNode(n)) {
-                            String body = get(n, "articleBody");
-                            if (body != null && body.strip().length() > 50) return body.strip();
-                        }
-                    }
-                } else if (isArticleNode(node)) {
-                    String body = get(node, "articleBody");
-                    if (body != null && body.strip().length() > 50) return body.strip();
-                }
-            } catch (Exception ignore) {}
-        }
-        return null;
-    }
-
-    /** 본문 이미지 URL 수집(+섬네일을 원본으로 복원) */
-    private static String collectImages(Element container) {
-        if (container == null) return "";
-        LinkedHashSet<String> set = new LinkedHashSet<>();
-        for (Element img : container.select("section img[src], section img[data-src], img[srcset]")) {
-            String u = img.hasAttr("data-src") ? img.attr("abs:data-src") : img.attr("abs:src");
-            if ((u == null || u.isBlank()) && img.hasAttr("srcset")) {
-                String first = img.attr("srcset").split(",")[0].trim().split(" ")[0];
-                u = img.absUrl(first);
-            }
-            if (u == null || u.isBlank()) continue;
-            set.add(unthumbDaum(u));
-        }
-        return String.join("\n", set);
-    }
-
-    /** daum 썸네일(…/thumb/.../?fname=원본URL) → 원본 URL 추출 */
-    private static String unthumbDaum(String u) {
-        try {
-            int i = u.indexOf("fname=");
-            if (i >= 0) {
-                String fname = u.substring(i + 6);
-                int amp = fname.indexOf('&');
-                if (amp >= 0) fname = fname.substring(0, amp);
-                return URLDecoder.decode(fname, StandardCharsets.UTF_8);
-            }
-        } catch (Exception ignore) {}
-        return u;
+    /** 네이버: 카테고리별로 오늘자 리스트 페이지를 페이지네이션하며 want개까지 저장 (지난 날짜는 NaverBackfillService) */
+    public List<Long> crawlNaverCategory(String category, int want) throws Exception {
+        return crawlNaverCategory(category, want, false);
     }
 
-    private static boolean isArticleNode(JsonNode node) {
-        String t = node.has("@type") ? node.get("@type").asText("") : "";
-        return "Article".equalsIgnoreCase(t) || "NewsArticle".equalsIgnoreCase(t);
+    public List<Long> crawlNaverCategory(String category, int want, boolean incremental) throws Exception {
+        return crawlNaverCategory(category, want, incremental, CrawlListener.NONE);
     }
 
-    private static String get(JsonNode n, String f) {
-        return n.has(f) && !n.get(f).isNull() ? n.get(f).asText(null) : null;
+    public List<Long> crawlNaverCategory(String category, int want, boolean incremental,
+                                         CrawlListener listener) throws Exception {
+        return crawl("naver", category, want, incremental, listener);
     }
 
-    // --- Naver: 카테고리 코드 매핑 ---
-    private static final Map<String, String> NAVER_SID1 = Map.of(
-            "politics", "100",
-            "economy",  "101",
-            "society",  "102",
-            "world",    "104",
-            "digital",  "105"   // IT/과학
-    );
-
-    /** 네이버: 카테고리별로 오늘자 리스트 페이지를 페이지네이션하며 want개까지 저장 */
-    @Transactional
-    public List<Long> crawlNaverCategory(String category, int want) throws Exception {
-        String sid1 = NAVER_SID1.getOrDefault(category, "101"); // 기본 economy
-        // KST 기준 오늘 날짜(YYYYMMDD)
-        String date = java.time.LocalDate.now(java.time.ZoneId.of("Asia/Seoul"))
-                .format(java.time.format.DateTimeFormatter.BASIC_ISO_DATE);
-
-        int page = 1;
-        java.util.LinkedHashSet<String> seen = new java.util.LinkedHashSet<>();
-        java.util.ArrayList<Long> saved = new java.util.ArrayList<>();
+    /**
+     * source 포털의 category 목록을 따라가며 want개까지 수집.
+     * incremental=true면 지난 실행의 워터마크나 이미 아는 기사만 있는 페이지에서 페이지네이션을 멈춘다.
+     */
+    public List<Long> crawl(String source, String category, int want, boolean incremental,
+                            CrawlListener listener) throws Exception {
+        SiteExtractor ex = extractors.get(source);
+        PageCursor cursor = new PageCursor(incremental, incremental ? watermarks.lastUrl(source, category) : null);
 
-        while (saved.size() < want) {
-            String listUrl = String.format(
-                    "https://news.naver.com/main/list.naver?mode=LSD&mid=sec&sid1=%s&date=%s&page=%d",
-                    sid1, date, page);
+        List<Long> saved = pipeline.run(sink -> {
+            String url = ex.firstListUrl(category);
+            int page = 1;
+            // 전역 중복 방지
+            Set<String> seen = new LinkedHashSet<>();
 
-            org.jsoup.nodes.Document listDoc;
-            try {
-                listDoc = org.jsoup.Jsoup.connect(listUrl)
-                        .userAgent("Mozilla/5.0")
-                        .timeout(15000)
-                        .get();
-            } catch (org.jsoup.HttpStatusException hse) {
-                if (hse.getStatusCode() == 429 || hse.getStatusCode() == 503) {
-                    Thread.sleep(5000);
-                    continue;
+            while (url != null && !sink.isStopped()) {
+                // 429/503은 PageFetcher가 백오프하며 재시도, 끝내 실패하면 예외로 탐색 종료
+                PageFetcher.ListPage res = fetchList(url, ex.listTimeoutMillis(), source, category);
+                listener.onPage(url);
+                // 304: 지난 요청 이후 목록이 그대로 → 증분 모드에선 새 링크가 없다고 보고 파싱 없이 종료
+                if (res.notModified() && incremental) {
+                    cursor.caughtUp = true;
+                    return;
                 }
-                throw hse;
-            }
-
-            // 리스트에서 기사 상세 링크 수집 (PC read.naver 또는 mnews 둘 다 허용)
-            java.util.List<String> links = listDoc.select("a[href*=read.naver], a[href*=/mnews/article/]").stream()
-                    .map(a -> a.attr("abs:href"))
-                    .map(this::toNaverMobileUrl) // 가급적 모바일 상세로 통일
-                    .filter(seen::add)           // 전역 중복 제거
-                    .collect(java.util.stream.Collectors.toList());
-
-            // 더 이상 링크 없으면 종료(마지막 페이지)
-            if (links.isEmpty()) break;
+                Document list = res.page().parse();
 
-            for (String url : links) {
-                if (saved.size() >= want) break;
-                try {
-                    News n = parseNaverArticle(url, category);
-                    if (n == null) continue;
-                    repo.save(n);
-                    saved.add(n.getId());
-                    politeDelay();
-                } catch (Exception e) {
-                    System.err.println("NAVER Fail " + url + " : " + e.getMessage());
+                // 이 페이지에서 기사 링크 수집, 페이지 간 중복 제거
+                List<String> links = new ArrayList<>();
+                for (String link : ex.extractLinks(list)) {
+                    if (seen.add(link)) links.add(link);
                 }
-            }
 
-            page++;
-            politeDelay();
-        }
+                if (!cursor.offerPage(sink, links)) return;
 
-        // 필요 개수 못 채우면 전일로 넘어가서 추가 수집(선택)
-        // 주석 해제 시 연속일 수집
-    /*
-    if (saved.size() < want) {
-        java.time.LocalDate d = java.time.LocalDate.now(java.time.ZoneId.of("Asia/Seoul")).minusDays(1);
-        while (saved.size() < want) {
-            String date2 = d.format(java.time.format.DateTimeFormatter.BASIC_ISO_DATE);
-            page = 1;
-            while (saved.size() < want) {
-                String listUrl = String.format(
-                        "https://news.naver.com/main/list.naver?mode=LSD&mid=sec&sid1=%s&date=%s&page=%d",
-                        sid1, date2, page);
-                org.jsoup.nodes.Document listDoc = org.jsoup.Jsoup.connect(listUrl)
-                        .userAgent("Mozilla/5.0").timeout(15000).get();
-                java.util.List<String> links = listDoc.select("a[href*=read.naver], a[href*=/mnews/article/]").stream()
-                        .map(a -> a.attr("abs:href"))
-                        .map(this::toNaverMobileUrl)
-                        .filter(seen::add)
-                        .collect(java.util.stream.Collectors.toList());
-                if (links.isEmpty()) break;
-                for (String url : links) {
-                    if (saved.size() >= want) break;
-                    try {
-                        News n = parseNaverArticle(url, category);
-                        if (n == null) continue;
-                        repo.save(n);
-                        saved.add(n.getId());
-                        politeDelay();
-                    } catch (Exception e) {
-                        System.err.println("NAVER Fail " + url + " : " + e.getMessage());
-                    }
-                }
-                page++;
-                politeDelay();
+                // 다음 페이지 이동
+                url = ex.nextListUrl(list, url, ++page, !links.isEmpty());
             }
-            d = d.minusDays(1);
-        }
-    }
-    */
+            if (url == null) cursor.caughtUp = true; // 마지막 페이지까지 봄
+        }, articleParser(ex, category), ex.articleTimeoutMillis(), want, source, listener);
 
+        cursor.commit(source, category, saved.size() < want);
         return saved;
     }
 
-    /** 네이버 상세 파싱: 모바일 뷰(n.news) 기준으로 제목/본문/이미지/기자/발행일 추출 */
-    private News parseNaverArticle(String url, String category) throws Exception {
-        org.jsoup.nodes.Document doc = org.jsoup.Jsoup.connect(url)
-                .userAgent("Mozilla/5.0")
-                .timeout(12000)
-                .get();
-
-        // 제목
-        String title = meta(doc, "meta[property=og:title]");
-        if (title == null) {
-            org.jsoup.nodes.Element h2 = doc.selectFirst("h2.media_end_head_headline, h2#title_area");
-            if (h2 != null) title = h2.text();
+    /** parse 단계: 기록 모드면 원본을 아카이브에 남기고 추출 + 지문 계산 (추출기별 시간은 아카이브 기록 제외) */
+    CrawlPipeline.ArticleParser articleParser(SiteExtractor ex, String category) {
+        return page -> {
+            if (archive.recording()) archive.append(CrawlArchive.Kind.ARTICLE, ex.source(), category, page);
+            long start = System.nanoTime();
+            News n = ex.parse(page, category);
+            dedup.fingerprint(n); // CPU 작업이라 persist 단계가 아닌 parse 워커에서
+            metrics.parse(ex.source(), start);
+            return n;
+        };
+    }
+
+    /** 조건부 GET으로 목록을 받고, 기록 모드면 새로 받은 본문을 아카이브에 남긴다 */
+    PageFetcher.ListPage fetchList(String url, int timeoutMillis, String source, String category) throws Exception {
+        PageFetcher.ListPage res = fetcher.fetchList(url, timeoutMillis);
+        if (archive.recording() && !res.notModified()) archive.append(CrawlArchive.Kind.LIST, source, category, res.page());
+        return res;
+    }
+
+    /**
+     * 목록 한 페이지 분량의 링크를 파이프라인에 넘기면서 증분 모드의 중단 여부를 판단한다.
+     * 워터마크 아래(더 오래된) 링크는 넘기지 않는다.
+     */
+    private final class PageCursor {
+        private final boolean incremental;
+        private final String mark;
+        private volatile String newest;
+        private volatile boolean caughtUp;
+
+        PageCursor(boolean incremental, String mark) {
+            this.incremental = incremental;
+            this.mark = mark;
         }
 
-        // 본문: 모바일은 보통 #dic_area
-        org.jsoup.nodes.Element bodyEl = doc.selectFirst("#dic_area");
-        if (bodyEl == null) {
-            // 데스크탑 신형은 #newsct_article
-            bodyEl = doc.selectFirst("#newsct_article");
-        }
+        /** 다음 페이지로 계속 가도 되면 true */
+        boolean offerPage(CrawlPipeline.LinkSink sink, List<String> links) throws InterruptedException {
+            if (newest == null && !links.isEmpty()) newest = links.get(0);
 
-        // 화면용/공유/광고 제거
-        if (bodyEl != null) {
-            bodyEl.select("script, style, aside, figure[data-type=photo-raw], .promotion, .media_end_categorize, .end_photo_org")
-                    .remove();
-        }
-
-        String content = "";
-        if (bodyEl != null) {
-            // 본문 텍스트
-            String text = bodyEl.text().trim();
-
-            // 이미지 URL 수집
-            String images = collectNaverImages(bodyEl);
-            content = text;
-            if (!images.isBlank()) content += "\n\n[IMAGES]\n" + images;
-        }
-        if (title == null || content.isBlank()) return null;
-
-        // 발행일(og:article:published_time 또는 time 태그)
-        String published = meta(doc, "meta[property=article:published_time]");
-        if (published == null) {
-            org.jsoup.nodes.Element t = doc.selectFirst("span.media_end_head_info_datestamp_time, time");
-            if (t != null) {
-                String dt = t.hasAttr("datetime") ? t.attr("datetime") : t.text();
-                if (dt != null && !dt.isBlank()) published = dt;
-            }
-        }
-
-        // 기자명(있으면)
-        String author = null;
-        org.jsoup.nodes.Element jour = doc.selectFirst(".media_end_head_journalist_name, span.byline, .journalistcard_summary_name__");
-        if (jour != null) author = jour.text();
-
-        News n = new News();
-        n.setTitle(title);
-        n.setContent(content);
-        n.setAuthor(author);
-        n.setPostDate(published);
-        n.setCategory(category);
-        return n;
-    }
-
-    /** read.naver?oid=...&aid=... 형태를 n.news 모바일 URL로 변환 */
-    private String toNaverMobileUrl(String href) {
-        try {
-            java.net.URI u = java.net.URI.create(href);
-            String host = u.getHost() == null ? "" : u.getHost();
-            String path = u.getPath() == null ? "" : u.getPath();
-
-            // 이미 모바일(mnews)면 그대로
-            if (host.contains("n.news.naver.com") && path.contains("/mnews/article/")) return href;
-
-            // read.naver?oid=xxx&aid=yyy → /mnews/article/oid/aid
-            if (host.contains("news.naver.com") && href.contains("read.naver")) {
-                java.util.Map<String, String> q = splitQuery(u.getRawQuery());
-                String oid = q.get("oid");
-                String aid = q.get("aid");
-                if (oid != null && aid != null) {
-                    return "https://n.news.naver.com/mnews/article/" + oid + "/" + aid;
-                }
+            int cut = mark == null ? -1 : links.indexOf(mark);
+            List<String> fresh = frontier.filterUnknown(cut >= 0 ? links.subList(0, cut) : links);
+            for (String url : fresh) {
+                if (!sink.offer(url)) return false;
             }
-            // 이미 mnews/article 링크인 경우도 abs 처리
-            if (host.contains("news.naver.com") && path.contains("/mnews/article/")) {
-                return "https://n.news.naver.com" + path;
+            // 워터마크에 닿았거나 이 페이지에 새 기사가 하나도 없으면 그 뒤는 이미 수집한 구간
+            if (incremental && (cut >= 0 || fresh.isEmpty())) {
+                caughtUp = true;
+                return false;
             }
-        } catch (Exception ignore) {}
-        return href;
-    }
-
-    private static java.util.Map<String, String> splitQuery(String query) {
-        java.util.Map<String, String> map = new java.util.HashMap<>();
-        if (query == null || query.isBlank()) return map;
-        for (String p : query.split("&")) {
-            int i = p.indexOf('=');
-            if (i >= 0) map.put(java.net.URLDecoder.decode(p.substring(0,i), java.nio.charset.StandardCharsets.UTF_8),
-                    java.net.URLDecoder.decode(p.substring(i+1), java.nio.charset.StandardCharsets.UTF_8));
-            else map.put(p, "");
+            return true;
         }
-        return map;
-    }
 
-    /** 네이버 이미지: lazy-load(data-src) 또는 srcset에서 원본에 가까운 URL 고르기 */
-    private static String collectNaverImages(org.jsoup.nodes.Element container) {
-        java.util.LinkedHashSet<String> set = new java.util.LinkedHashSet<>();
-        for (org.jsoup.nodes.Element img : container.select("img")) {
-            String u = img.hasAttr("data-src") ? img.attr("abs:data-src")
-                    : img.hasAttr("src") ? img.attr("abs:src")
-                    : null;
-            // srcset이 더 고해상도면 첫 항목 사용
-            if ((u == null || u.isBlank()) && img.hasAttr("srcset")) {
-                String first = img.attr("srcset").split(",")[0].trim().split(" ")[0];
-                u = img.absUrl(first);
+        /**
+         * 새 기사 구간을 끝까지 훑었고(caughtUp) 넘긴 링크를 모두 처리했을 때만(want 미달) 워터마크 전진.
+         * want에서 끊긴 실행은 남은 구간을 다음 실행이 이어서 보도록 워터마크를 그대로 둔다.
+         */
+        void commit(String source, String category, boolean drained) {
+            if (incremental && caughtUp && drained && newest != null) {
+                watermarks.advance(source, category, newest);
             }
-            if (u == null || u.isBlank()) continue;
-
-            // 네이버 리사이즈 파라미터 제거(선택)
-            u = u.replaceAll("(?i)[?&]type=[^&]+", "")
-                    .replaceAll("(?i)[?&]w=\\d+", "")
-                    .replaceAll("(?i)[?&]t=\\w+", "");
-            set.add(u);
         }
-        return String.join("\n", set);
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,7 @@
+package com.exmaple.crawling;
+
+import java.time.LocalDateTime;
+
+/** 목록 API용 프로젝션. content(LOB)를 읽지 않는다 */
+public record NewsSummary(Long id, String title, String author, LocalDateTime postDate,
+                          String category, String source, String sourceUrl, Long duplicateOf) {}
@@ -0,0 +1,4 @@
+package com.exmaple.crawling;
+
+/** 검색 색인 재구성용 프로젝션 (제목·본문, DB 확인용 source_url) */
+public record NewsText(Long id, String sourceUrl, String title, String content) {}
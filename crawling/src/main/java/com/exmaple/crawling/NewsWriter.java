@@ -0,0 +1,139 @@
+package com.exmaple.crawling;
+
+import jakarta.transaction.Transactional;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/** persist 단계 전용. 배치 단위 짧은 트랜잭션 */
+@Component
+@RequiredArgsConstructor
+public class NewsWriter {
+    private final NewsRepository repo;
+    private final CrawlFrontier frontier;
+    private final NearDuplicateDetector dedup;
+    private final SearchIndex search;
+    private final CrawlMetrics metrics;
+
+    @Transactional
+    public Long save(News news) {
+        return saveAll(List.of(news)).get(0);
+    }
+
+    /**
+     * 한 트랜잭션에서 묶어 저장. hibernate.jdbc.batch_size 단위로 INSERT가 배치된다.
+     * 이미 저장된(또는 같은 배치 앞쪽의) 기사와 SimHash가 가까우면 본문 없이 원본에 링크한다.
+     */
+    @Transactional
+    public List<Long> saveAll(List<News> batch) {
+        List<News> saved = persistDeduplicated(batch);
+        frontier.markKnown(saved);
+        List<Long> ids = new ArrayList<>(saved.size());
+        for (News n : saved) ids.add(n.getId());
+        countAfterCommit(saved);
+        return ids;
+    }
+
+    private List<News> persistDeduplicated(List<News> batch) {
+        List<News> saved = new ArrayList<>(batch.size());
+        List<News> originals = new ArrayList<>(batch.size());
+        for (News n : batch) {
+            Long dup = dedup.findDuplicate(n);
+            if (dup == null) dup = findInBatch(n, originals);
+            if (n.getSimhash() != null) metrics.dedup(dup != null);
+            // 링크는 사본으로 저장: 배치가 롤백돼 한 건씩 다시 저장할 때 원래 본문이 남아 있어야 한다
+            News s = repo.save(dup == null ? n : linkedCopy(n, dup)); // 시퀀스에서 id만 받고 INSERT는 flush 때 배치로
+            saved.add(s);
+            if (dup == null) originals.add(s);
+        }
+        // 커밋된 것만 인덱스에 (롤백된 id를 가리키는 링크가 생기지 않게)
+        if (!originals.isEmpty()) {
+            afterCommit(() -> {
+                dedup.indexSaved(originals);
+                search.addAll(originals);
+            });
+        }
+        return saved;
+    }
+
+    /** 초당 저장 기사 수용 카운터. 롤백된 배치는 세지 않는다 */
+    private void countAfterCommit(List<News> saved) {
+        if (saved.isEmpty()) return;
+        Map<String, Integer> bySource = new HashMap<>();
+        for (News n : saved) bySource.merge(String.valueOf(n.getSource()), 1, Integer::sum);
+        afterCommit(() -> bySource.forEach(metrics::saved));
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) return;
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+    private static News linkedCopy(News n, Long originalId) {
+        News c = new News();
+        c.setTitle(n.getTitle());
+        c.setAuthor(n.getAuthor());
+        c.setPostDate(n.getPostDate());
+        c.setCategory(n.getCategory());
+        c.setSource(n.getSource());
+        c.setSourceUrl(n.getSourceUrl());
+        c.setSimhash(n.getSimhash());
+        c.setDuplicateOf(originalId);
+        return c;
+    }
+
+    private Long findInBatch(News n, List<News> originals) {
+        if (n.getSimhash() == null) return null;
+        for (News o : originals) {
+            if (o.getSimhash() != null && SimHash.distance(o.getSimhash(), n.getSimhash()) <= dedup.maxDistance()) {
+                return o.getId();
+            }
+        }
+        return null;
+    }
+
+    /** 재파싱 결과 반영: 같은 sourceUrl이 있으면 추출 필드만 갱신, 없으면 새로 저장 */
+    @Transactional
+    public List<Long> upsertAll(List<News> batch) {
+        List<String> urls = new ArrayList<>(batch.size());
+        for (News n : batch) urls.add(n.getSourceUrl());
+        Map<String, News> existing = new HashMap<>();
+        for (News n : repo.findBySourceUrlIn(urls)) existing.put(n.getSourceUrl(), n);
+
+        List<Long> ids = new ArrayList<>(batch.size());
+        List<News> fresh = new ArrayList<>();
+        List<News> updated = new ArrayList<>();
+        for (News n : batch) {
+            News cur = existing.get(n.getSourceUrl());
+            if (cur == null) {
+                fresh.add(n);
+                continue;
+            }
+            cur.setTitle(n.getTitle());
+            if (cur.getDuplicateOf() == null) { // 링크된 사본은 본문 없이 유지
+                cur.setBodyText(n.getBodyText());
+                cur.setImages(n.getImages());
+            }
+            cur.setAuthor(n.getAuthor());
+            cur.setPostDate(n.getPostDate());
+            cur.setCategory(n.getCategory());
+            cur.setSimhash(n.getSimhash());
+            ids.add(cur.getId());
+            updated.add(cur);
+        }
+        if (!updated.isEmpty()) afterCommit(() -> search.addAll(updated)); // 새 버전이 옛 색인을 대체
+        if (!fresh.isEmpty()) ids.addAll(saveAll(fresh));
+        return ids;
+    }
+}
@@ -0,0 +1,194 @@
+package com.exmaple.crawling;
+
+import lombok.RequiredArgsConstructor;
+import org.brotli.dec.BrotliInputStream;
+import org.jsoup.Jsoup;
+import org.jsoup.nodes.Document;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.Locale;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.InflaterInputStream;
+
+/** 모든 GET은 여기를 거친다 (호스트 한도 + 재시도/회로 차단 + 공유 HttpClient + 압축 전송 + 목록 조건부 GET) */
+@Component
+@RequiredArgsConstructor
+public class PageFetcher {
+    private final HostThrottle throttle;
+    private final HttpClient http;
+    private final CrawlProperties props;
+    private final RetryPolicy retry;
+    private final BandwidthLimiter bandwidth;
+    private final CrawlArchive archive;
+    private final ListPageCache listCache;
+    private final CrawlMetrics metrics;
+
+    /** 목록 페이지 조건부 GET 결과. notModified면 page는 캐시에 있던 지난 응답 */
+    public record ListPage(FetchedPage page, boolean notModified) {}
+
+    /** 목록 페이지처럼 바로 DOM이 필요한 경우: 응답 스트림을 그대로 Jsoup에 넘긴다 */
+    public Document fetchDocument(String url, int timeoutMillis) throws Exception {
+        if (archive.replaying()) return replay(url).parse();
+        return withRetry(url, timeoutMillis, null, res -> {
+            try (InputStream body = decode(res)) {
+                return Jsoup.parse(body, charsetOf(res), res.uri().toString()); // 리다이렉트 뒤 최종 URL 기준
+            }
+        });
+    }
+
+    /** 원본 바이트만 받아온다. 파싱은 호출 측(파이프라인 parse 단계)에서 */
+    public FetchedPage fetch(String url, int timeoutMillis) throws Exception {
+        if (archive.replaying()) return replay(url);
+        return withRetry(url, timeoutMillis, null, res -> {
+            try (InputStream body = decode(res)) {
+                return new FetchedPage(url, body.readAllBytes(), charsetOf(res), res.uri().toString());
+            }
+        });
+    }
+
+    /**
+     * 목록 페이지: 캐시에 검증자가 있으면 If-None-Match / If-Modified-Since를 붙여 보내고,
+     * 304면 본문 없이 캐시된 응답을 돌려준다. 200이면 새 검증자와 본문으로 캐시를 갱신.
+     */
+    public ListPage fetchList(String url, int timeoutMillis) throws Exception {
+        if (archive.replaying()) return new ListPage(replay(url), false);
+        ListPageCache.Cached cached = listCache.get(url);
+        return withRetry(url, timeoutMillis, cached, res -> {
+            if (res.statusCode() == 304 && cached != null) {
+                res.body().close();
+                return new ListPage(cached.page(), true);
+            }
+            FetchedPage page;
+            try (InputStream body = decode(res)) {
+                page = new FetchedPage(url, body.readAllBytes(), charsetOf(res), res.uri().toString());
+            }
+            listCache.put(url, res.headers().firstValue("ETag").orElse(null),
+                    res.headers().firstValue("Last-Modified").orElse(null), page);
+            return new ListPage(page, false);
+        });
+    }
+
+    /** 리플레이 모드: 네트워크 대신 아카이브의 마지막 기록. 없으면 404처럼 취급 */
+    private FetchedPage replay(String url) throws IOException {
+        return archive.find(url).orElseThrow(() -> new FetchStatusException(404, url, 0));
+    }
+
+    @FunctionalInterface
+    private interface BodyReader<T> {
+        T read(HttpResponse<InputStream> res) throws IOException;
+    }
+
+    /**
+     * 429/5xx·일시적 I/O 오류는 RetryPolicy에 따라 백오프 후 재시도. 대기는 호스트 슬롯을 놓은 채로 한다.
+     * 결과는 호스트별 회로 차단기와 AIMD 속도 조절에 반영된다. 시도마다 슬롯 대기와 응답 시간을 따로 잰다.
+     * 결과 없이 끝난 HALF_OPEN 시험 요청은 finally에서 차단기에 돌려준다.
+     */
+    private <T> T withRetry(String url, int timeoutMillis, ListPageCache.Cached validators,
+                            BodyReader<T> reader) throws Exception {
+        String host = HostThrottle.hostOf(url);
+        CircuitBreaker breaker = throttle.breaker(url);
+        for (int attempt = 1; ; attempt++) {
+            boolean trial = breaker.check(host);
+            boolean settled = false; // 이번 시도 결과를 차단기에 알렸는지
+            try {
+                long retryAfter = 0;
+                IOException failure;
+                String status;
+                long waitStart = System.nanoTime();
+                try (HostThrottle.Permit ignored = throttle.acquire(url)) {
+                    metrics.throttleWait(host, waitStart);
+                    long start = System.nanoTime();
+                    try {
+                        HttpResponse<InputStream> res = send(url, timeoutMillis, validators);
+                        T out = reader.read(res);
+                        metrics.fetch(host, String.valueOf(res.statusCode()), start);
+                        throttle.onSuccess(url);
+                        breaker.onSuccess();
+                        settled = true;
+                        return out;
+                    } catch (FetchStatusException e) {
+                        metrics.fetch(host, String.valueOf(e.getStatusCode()), start);
+                        throw e;
+                    } catch (IOException e) {
+                        metrics.fetch(host, CrawlMetrics.IO_ERROR, start);
+                        throw e;
+                    }
+                } catch (FetchStatusException e) {
+                    if (!RetryPolicy.isRetryableStatus(e.getStatusCode())) {
+                        breaker.onSuccess(); // 404 등: 호스트는 정상 응답 중
+                        settled = true;
+                        throw e;
+                    }
+                    if (RetryPolicy.isThrottleStatus(e.getStatusCode())) throttle.onThrottled(url, e.getRetryAfterMillis());
+                    retryAfter = e.getRetryAfterMillis();
+                    failure = e;
+                    status = String.valueOf(e.getStatusCode());
+                } catch (IOException e) {
+                    if (!RetryPolicy.isRetryableError(e)) throw e;
+                    failure = e;
+                    status = CrawlMetrics.IO_ERROR;
+                }
+                breaker.onFailure();
+                settled = true;
+                if (attempt >= retry.maxAttempts()) throw failure;
+                metrics.retry(host, status);
+                Thread.sleep(retry.delayMillis(attempt, retryAfter));
+            } finally {
+                // 인터럽트·파싱 예외·재시도 불가 I/O 오류로 빠져나간 시험 요청이 HALF_OPEN을 영영 막지 않도록
+                if (trial && !settled) breaker.release();
+            }
+        }
+    }
+
+    private HttpResponse<InputStream> send(String url, int timeoutMillis, ListPageCache.Cached validators)
+            throws IOException, InterruptedException {
+        HttpRequest.Builder req = HttpRequest.newBuilder(URI.create(url))
+                .timeout(Duration.ofMillis(timeoutMillis))
+                .header("User-Agent", props.getHttp().getUserAgent())
+                .header("Accept", "text/html,application/xhtml+xml")
+                .header("Accept-Encoding", "gzip, deflate, br")
+                .GET();
+        if (validators != null) {
+            if (validators.etag() != null) req.header("If-None-Match", validators.etag());
+            if (validators.lastModified() != null) req.header("If-Modified-Since", validators.lastModified());
+        }
+        HttpResponse<InputStream> res = http.send(req.build(), HttpResponse.BodyHandlers.ofInputStream());
+        if (res.statusCode() >= 400) {
+            res.body().close();
+            throw new FetchStatusException(res.statusCode(), url,
+                    RetryPolicy.parseRetryAfter(res.headers().firstValue("Retry-After").orElse(null)));
+        }
+        return res;
+    }
+
+    /** 대역폭 예산은 실제 전송량(압축된 바이트) 기준으로 센다 */
+    private InputStream decode(HttpResponse<InputStream> res) throws IOException {
+        InputStream raw = bandwidth.wrap(res.body());
+        String enc = res.headers().firstValue("Content-Encoding").orElse("").trim().toLowerCase(Locale.ROOT);
+        return switch (enc) {
+            case "gzip", "x-gzip" -> new GZIPInputStream(raw);
+            case "deflate" -> new InflaterInputStream(raw);
+            case "br" -> new BrotliInputStream(raw);
+            default -> raw;
+        };
+    }
+
+    /** Content-Type의 charset. 없으면 null → Jsoup이 meta charset/BOM으로 판별 */
+    private static String charsetOf(HttpResponse<?> res) {
+        String ct = res.headers().firstValue("Content-Type").orElse("");
+        for (String part : ct.split(";")) {
+            String p = part.trim();
+            if (p.regionMatches(true, 0, "charset=", 0, 8)) {
+                return p.substring(8).replace("\"", "").trim();
+            }
+        }
+        return null;
+    }
+}
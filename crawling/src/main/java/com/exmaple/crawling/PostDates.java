@@ -0,0 +1,51 @@
+package com.exmaple.crawling;
+
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneId;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 포털마다 다른 발행일 표기 → 한국 시간 LocalDateTime.
+ * ISO-8601(오프셋 포함/미포함), "2025-10-16 09:30:12", "2025. 10. 16. 09:30", "2025.10.16. 오후 3:05".
+ */
+final class PostDates {
+    static final ZoneId KST = ZoneId.of("Asia/Seoul");
+
+    private static final Pattern LOOSE = Pattern.compile(
+            "(\\d{4})\\s*[.\\-/]\\s*(\\d{1,2})\\s*[.\\-/]\\s*(\\d{1,2})\\.?\\s*(오전|오후|AM|PM)?\\s*(\\d{1,2}):(\\d{2})(?::(\\d{2}))?",
+            Pattern.CASE_INSENSITIVE);
+
+    private PostDates() {}
+
+    /** 해석 못 하면 null */
+    static LocalDateTime parse(String raw) {
+        if (raw == null || raw.isBlank()) return null;
+        String s = raw.trim();
+        try {
+            return OffsetDateTime.parse(s).atZoneSameInstant(KST).toLocalDateTime();
+        } catch (Exception ignore) {
+        }
+        try {
+            return LocalDateTime.parse(s); // 오프셋 없는 ISO-8601은 이미 한국 시간으로 본다
+        } catch (Exception ignore) {
+        }
+        Matcher m = LOOSE.matcher(s);
+        if (!m.find()) return null;
+        int hour = Integer.parseInt(m.group(5));
+        String ampm = m.group(4);
+        if (ampm != null) {
+            boolean pm = ampm.equals("오후") || ampm.equalsIgnoreCase("PM");
+            if (pm && hour < 12) hour += 12;
+            if (!pm && hour == 12) hour = 0;
+        }
+        try {
+            return LocalDateTime.of(Integer.parseInt(m.group(1)), Integer.parseInt(m.group(2)),
+                    Integer.parseInt(m.group(3)), hour, Integer.parseInt(m.group(6)),
+                    m.group(7) == null ? 0 : Integer.parseInt(m.group(7)));
+        } catch (Exception e) {
+            return null;
+        }
+    }
+}
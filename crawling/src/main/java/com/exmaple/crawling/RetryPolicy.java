@@ -0,0 +1,74 @@
+package com.exmaple.crawling;
+
+import org.jsoup.HttpStatusException;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.concurrent.ThreadLocalRandom;
+
+/** 지수 백오프(full jitter) + Retry-After + 최대 시도 횟수 */
+@Component
+public class RetryPolicy {
+    private final int maxAttempts;
+    private final long baseDelayMillis;
+    private final long maxDelayMillis;
+    private final long maxRetryAfterMillis;
+
+    public RetryPolicy(CrawlProperties props) {
+        CrawlProperties.Retry cfg = props.getRetry();
+        this.maxAttempts = Math.max(1, cfg.getMaxAttempts());
+        this.baseDelayMillis = cfg.getBaseDelayMillis();
+        this.maxDelayMillis = cfg.getMaxDelayMillis();
+        this.maxRetryAfterMillis = cfg.getMaxRetryAfterMillis();
+    }
+
+    public int maxAttempts() {
+        return maxAttempts;
+    }
+
+    /** 서버 과부하/일시 장애로 보고 다시 시도할 상태 코드 */
+    public static boolean isRetryableStatus(int status) {
+        return status == 429 || status == 502 || status == 503 || status == 504;
+    }
+
+    /** 429/503은 속도를 낮추라는 신호 */
+    public static boolean isThrottleStatus(int status) {
+        return status == 429 || status == 503;
+    }
+
+    /** 타임아웃·연결 끊김 같은 일시적 I/O 오류 */
+    public static boolean isRetryableError(Exception e) {
+        return e instanceof IOException
+                && !(e instanceof HttpStatusException)
+                && !(e instanceof CircuitBreaker.OpenException);
+    }
+
+    /**
+     * attempt(1부터)번째 실패 뒤 대기 시간. Retry-After가 있으면 그것을(상한 적용) 따르고,
+     * 없으면 [0, min(max, base * 2^(attempt-1))] 구간에서 무작위.
+     */
+    public long delayMillis(int attempt, long retryAfterMillis) {
+        if (retryAfterMillis > 0) return Math.min(retryAfterMillis, maxRetryAfterMillis);
+        long ceiling = Math.min(maxDelayMillis, baseDelayMillis << Math.min(attempt - 1, 20));
+        return ThreadLocalRandom.current().nextLong(ceiling + 1);
+    }
+
+    /** Retry-After: 초 단위 숫자 또는 HTTP-date. 해석 못 하면 0 */
+    public static long parseRetryAfter(String value) {
+        if (value == null || value.isBlank()) return 0;
+        String v = value.trim();
+        try {
+            return Duration.ofSeconds(Long.parseLong(v)).toMillis();
+        } catch (NumberFormatException ignore) {
+        }
+        try {
+            ZonedDateTime at = ZonedDateTime.parse(v, DateTimeFormatter.RFC_1123_DATE_TIME);
+            return Math.max(0, Duration.between(ZonedDateTime.now(at.getZone()), at).toMillis());
+        } catch (Exception ignore) {
+            return 0;
+        }
+    }
+}
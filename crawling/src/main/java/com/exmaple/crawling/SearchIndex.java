@@ -0,0 +1,435 @@
+package com.exmaple.crawling;
+
+import jakarta.annotation.PreDestroy;
+import jakarta.transaction.Transactional;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Stream;
+
+/**
+ * 기사 본문 검색 색인 (프로세스 안, 로컬 디스크).
+ * 새로 저장된 기사는 메모리 버퍼에 쌓였다가 flushDocs건마다 SearchSegment 파일로 내려가고,
+ * 세그먼트가 maxSegments를 넘으면 최근 것들을 하나로 병합한다. 같은 기사가 다시 색인되면
+ * 더 새로운 세그먼트(또는 버퍼)에 있는 쪽만 유효하다. 순위는 BM25.
+ * manifest 파일이 세그먼트 순서와 색인이 끝난 마지막 기사 ID·source_url을 기록한다.
+ * 시작할 때 그 ID의 기사가 같은 URL로 DB에 있어야 이어서 쓴다. 아니면 DB가 새로 만들어진 것이므로
+ * (ID가 다시 1부터라 옛 세그먼트의 ID가 다른 기사를 가리킨다) 색인을 비우고 다시 만든다.
+ */
+@Slf4j
+@Component
+public class SearchIndex {
+    private static final String MANIFEST = "manifest";
+    private static final double K1 = 1.2;
+    private static final double B = 0.75;
+    private static final int TITLE_WEIGHT = 2;
+
+    public record Hit(long id, double score) {}
+
+    private final CrawlProperties.Search cfg;
+    private final NewsRepository repo;
+    private final Path dir;
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    /** 오래된 것부터 */
+    private List<SearchSegment> segments = new ArrayList<>();
+    private int nextSegment = 1;
+    /** 세그먼트로 내려간 기사 중 가장 큰 ID (시작 시 이 뒤부터 따라잡는다) */
+    private long maxIndexedId;
+    /** maxIndexedId 기사의 source_url (DB가 같은지 확인용) */
+    private String maxIndexedUrl;
+
+    private final Map<String, SearchSegment.Postings> buffer = new HashMap<>();
+    private final Map<Long, Integer> bufferDocs = new LinkedHashMap<>();
+    private long bufferLength;
+    private long bufferMaxId;
+    private String bufferMaxUrl;
+
+    public SearchIndex(CrawlProperties props, NewsRepository repo) {
+        this.cfg = props.getSearch();
+        this.repo = repo;
+        this.dir = Path.of(cfg.getDir());
+    }
+
+    public boolean enabled() {
+        return cfg.isEnabled();
+    }
+
+    /** 색인이 없거나 DB와 맞지 않으면 DB 전체로 다시 만들고, 맞으면 마지막 색인 ID 이후만 따라잡는다 */
+    @Transactional
+    @EventListener(ApplicationReadyEvent.class)
+    public void openOrRebuild() throws IOException {
+        if (!enabled()) return;
+        load();
+        if (maxIndexedId > 0
+                && (maxIndexedUrl == null || !repo.existsByIdAndSourceUrl(maxIndexedId, maxIndexedUrl))) {
+            log.atInfo().addKeyValue("maxIndexedId", maxIndexedId).addKeyValue("url", maxIndexedUrl)
+                    .log("search index does not match database, rebuilding");
+            clear();
+        }
+        try (Stream<NewsText> rows = repo.streamForIndex(maxIndexedId)) {
+            rows.forEach(r -> add(r.id(), r.sourceUrl(), r.title(), r.content()));
+        }
+        flush();
+    }
+
+    /** manifest와 세그먼트를 연다. manifest가 없으면 남은 세그먼트 파일을 지우고 빈 색인으로 */
+    void load() throws IOException {
+        lock.writeLock().lock();
+        try {
+            Files.createDirectories(dir);
+            Path manifest = dir.resolve(MANIFEST);
+            List<SearchSegment> opened = new ArrayList<>();
+            if (Files.exists(manifest)) {
+                Map<String, String> m = new HashMap<>();
+                for (String line : Files.readAllLines(manifest, StandardCharsets.UTF_8)) {
+                    int eq = line.indexOf('=');
+                    if (eq > 0) m.put(line.substring(0, eq), line.substring(eq + 1));
+                }
+                maxIndexedId = Long.parseLong(m.getOrDefault("maxIndexedId", "0"));
+                String url = m.getOrDefault("maxIndexedUrl", "");
+                maxIndexedUrl = url.isEmpty() ? null : url;
+                nextSegment = Integer.parseInt(m.getOrDefault("nextSegment", "1"));
+                for (String n : m.getOrDefault("segments", "").split(",")) {
+                    if (n.isBlank()) continue;
+                    int number = Integer.parseInt(n);
+                    opened.add(SearchSegment.open(number, segmentPath(number)));
+                }
+            } else {
+                maxIndexedId = 0;
+                maxIndexedUrl = null;
+                nextSegment = 1;
+            }
+            segments = opened;
+            deleteUnlisted();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /** 세그먼트와 버퍼를 모두 버리고 빈 색인으로 */
+    void clear() throws IOException {
+        lock.writeLock().lock();
+        try {
+            buffer.clear();
+            bufferDocs.clear();
+            bufferLength = 0;
+            bufferMaxId = 0;
+            bufferMaxUrl = null;
+            segments = new ArrayList<>();
+            maxIndexedId = 0;
+            maxIndexedUrl = null;
+            writeManifest();
+            deleteUnlisted();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /** 저장된 원본 기사들 (본문 없는 링크 사본은 원본이 대신 검색된다) */
+    public void addAll(Collection<News> saved) {
+        if (!enabled()) return;
+        for (News n : saved) {
+            if (n.getId() != null && n.getDuplicateOf() == null && n.getBodyText() != null) {
+                add(n.getId(), n.getSourceUrl(), n.getTitle(), n.getBodyText());
+            }
+        }
+    }
+
+    /** 제목은 TITLE_WEIGHT배로 센다. 이미 버퍼에 있는 기사면 먼저 내려서 새 버전이 더 새로운 쪽에 들어가게 */
+    void add(long id, String title, String content) {
+        add(id, null, title, content);
+    }
+
+    void add(long id, String sourceUrl, String title, String content) {
+        Map<String, Integer> tf = new HashMap<>();
+        BigramTokenizer.count(title, TITLE_WEIGHT, tf);
+        BigramTokenizer.count(content, 1, tf);
+        int length = 0;
+        for (int c : tf.values()) length += c;
+
+        lock.writeLock().lock();
+        try {
+            if (bufferDocs.containsKey(id)) flushLocked();
+            for (Map.Entry<String, Integer> e : tf.entrySet()) {
+                buffer.computeIfAbsent(e.getKey(), k -> new SearchSegment.Postings()).add(id, e.getValue());
+            }
+            bufferDocs.put(id, length);
+            bufferLength += length;
+            if (id > bufferMaxId) {
+                bufferMaxId = id;
+                bufferMaxUrl = sourceUrl;
+            }
+            if (bufferDocs.size() >= cfg.getFlushDocs()) flushLocked();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @PreDestroy
+    public void flush() throws IOException {
+        lock.writeLock().lock();
+        try {
+            flushLocked();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /** 상위 k건 (점수 내림차순) */
+    public List<Hit> search(String query, int k) {
+        Map<String, Integer> terms = BigramTokenizer.tokens(query);
+        if (terms.isEmpty() || k <= 0) return List.of();
+
+        lock.readLock().lock();
+        try {
+            long docs = bufferDocs.size();
+            long total = bufferLength;
+            for (SearchSegment s : segments) {
+                docs += s.docCount();
+                total += s.totalLength();
+            }
+            if (docs == 0) return List.of();
+            double avgLength = (double) total / docs;
+
+            Map<Long, Double> scores = new HashMap<>();
+            for (String term : terms.keySet()) {
+                // df는 대체된 옛 버전까지 세므로 재색인이 잦으면 약간 과대평가된다 (순위 영향은 미미)
+                SearchSegment.Postings buffered = buffer.get(term);
+                int df = buffered == null ? 0 : buffered.size;
+                for (SearchSegment s : segments) df += s.df(term);
+                if (df == 0) continue;
+                double idf = Math.log(1 + (docs - df + 0.5) / (df + 0.5));
+
+                for (int i = 0; i < segments.size(); i++) {
+                    SearchSegment s = segments.get(i);
+                    SearchSegment.Postings p = s.postings(term);
+                    if (p == null) continue;
+                    for (int j = 0; j < p.size; j++) {
+                        long id = p.ids[j];
+                        if (supersededAfter(i, id)) continue;
+                        scores.merge(id, bm25(idf, p.tfs[j], s.length(id), avgLength), Double::sum);
+                    }
+                }
+                if (buffered != null) {
+                    for (int j = 0; j < buffered.size; j++) {
+                        long id = buffered.ids[j];
+                        scores.merge(id, bm25(idf, buffered.tfs[j], bufferDocs.get(id), avgLength), Double::sum);
+                    }
+                }
+            }
+            return topK(scores, k);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int documentCount() {
+        lock.readLock().lock();
+        try {
+            int n = bufferDocs.size();
+            for (SearchSegment s : segments) n += s.docCount();
+            return n;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    int segmentCount() {
+        lock.readLock().lock();
+        try {
+            return segments.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private static double bm25(double idf, int tf, int length, double avgLength) {
+        return idf * tf * (K1 + 1) / (tf + K1 * (1 - B + B * length / avgLength));
+    }
+
+    private static List<Hit> topK(Map<Long, Double> scores, int k) {
+        PriorityQueue<Hit> heap = new PriorityQueue<>(k + 1, Comparator.comparingDouble(Hit::score));
+        for (Map.Entry<Long, Double> e : scores.entrySet()) {
+            heap.add(new Hit(e.getKey(), e.getValue()));
+            if (heap.size() > k) heap.poll();
+        }
+        List<Hit> hits = new ArrayList<>(heap);
+        hits.sort(Comparator.comparingDouble(Hit::score).reversed().thenComparingLong(Hit::id));
+        return hits;
+    }
+
+    /** i번 세그먼트의 이 문서보다 새 버전이 뒤쪽 세그먼트나 버퍼에 있는지 */
+    private boolean supersededAfter(int i, long id) {
+        if (bufferDocs.containsKey(id)) return true;
+        for (int j = i + 1; j < segments.size(); j++) {
+            if (segments.get(j).contains(id)) return true;
+        }
+        return false;
+    }
+
+    private void flushLocked() throws IOException {
+        if (bufferDocs.isEmpty()) return;
+        TreeMap<String, SearchSegment.Postings> sorted = new TreeMap<>(buffer);
+        sorted.values().forEach(SearchSegment.Postings::sort);
+        long[] ids = new long[bufferDocs.size()];
+        int[] lengths = new int[ids.length];
+        int i = 0;
+        for (Map.Entry<Long, Integer> e : new TreeMap<>(bufferDocs).entrySet()) {
+            ids[i] = e.getKey();
+            lengths[i++] = e.getValue();
+        }
+
+        int number = nextSegment++;
+        SearchSegment.write(segmentPath(number), sorted.entrySet().iterator(), ids, lengths);
+        segments.add(SearchSegment.open(number, segmentPath(number)));
+        if (bufferMaxId >= maxIndexedId) {
+            maxIndexedId = bufferMaxId;
+            maxIndexedUrl = bufferMaxUrl;
+        }
+        buffer.clear();
+        bufferDocs.clear();
+        bufferLength = 0;
+        bufferMaxId = 0;
+        bufferMaxUrl = null;
+
+        if (segments.size() > cfg.getMaxSegments()) mergeLocked();
+        writeManifest();
+        deleteUnlisted();
+    }
+
+    /**
+     * 최근 세그먼트 절반을 하나로. 뒤쪽부터 연속으로 합치므로 "뒤가 더 새롭다"는 순서가 유지되고,
+     * 합치는 범위 안에서 대체된 옛 버전은 버린다. 오래된 큰 세그먼트는 자주 다시 쓰지 않는다.
+     */
+    private void mergeLocked() throws IOException {
+        int from = segments.size() - Math.max(2, cfg.getMaxSegments() / 2);
+        List<SearchSegment> merging = segments.subList(from, segments.size());
+
+        // 각 세그먼트에서 살아있는 문서 (뒤쪽 세그먼트에 같은 ID가 없어야)
+        List<boolean[]> alive = new ArrayList<>(merging.size());
+        TreeMap<Long, Integer> docs = new TreeMap<>();
+        for (int i = 0; i < merging.size(); i++) {
+            SearchSegment s = merging.get(i);
+            long[] ids = s.docIds();
+            boolean[] live = new boolean[ids.length];
+            for (int d = 0; d < ids.length; d++) {
+                live[d] = true;
+                for (int j = i + 1; j < merging.size() && live[d]; j++) {
+                    if (merging.get(j).contains(ids[d])) live[d] = false;
+                }
+                if (live[d]) docs.put(ids[d], s.length(ids[d]));
+            }
+            alive.add(live);
+        }
+
+        TreeSet<String> terms = new TreeSet<>();
+        for (SearchSegment s : merging) s.terms().forEach(terms::add);
+        Iterator<String> termIt = terms.iterator();
+        Iterator<Map.Entry<String, SearchSegment.Postings>> postings = new Iterator<>() {
+            Map.Entry<String, SearchSegment.Postings> next = advance();
+
+            private Map.Entry<String, SearchSegment.Postings> advance() {
+                while (termIt.hasNext()) {
+                    String term = termIt.next();
+                    SearchSegment.Postings merged = new SearchSegment.Postings();
+                    for (int i = 0; i < merging.size(); i++) {
+                        SearchSegment s = merging.get(i);
+                        SearchSegment.Postings p = s.postings(term);
+                        if (p == null) continue;
+                        for (int j = 0; j < p.size; j++) {
+                            if (alive.get(i)[Arrays.binarySearch(s.docIds(), p.ids[j])]) {
+                                merged.add(p.ids[j], p.tfs[j]);
+                            }
+                        }
+                    }
+                    if (merged.size > 0) {
+                        merged.sort();
+                        return new AbstractMap.SimpleImmutableEntry<>(term, merged);
+                    }
+                }
+                return null;
+            }
+
+            @Override
+            public boolean hasNext() {
+                return next != null;
+            }
+
+            @Override
+            public Map.Entry<String, SearchSegment.Postings> next() {
+                Map.Entry<String, SearchSegment.Postings> e = next;
+                next = advance();
+                return e;
+            }
+        };
+
+        long[] ids = new long[docs.size()];
+        int[] lengths = new int[ids.length];
+        int i = 0;
+        for (Map.Entry<Long, Integer> e : docs.entrySet()) {
+            ids[i] = e.getKey();
+            lengths[i++] = e.getValue();
+        }
+        int number = nextSegment++;
+        SearchSegment.write(segmentPath(number), postings, ids, lengths);
+        List<SearchSegment> next = new ArrayList<>(segments.subList(0, from));
+        next.add(SearchSegment.open(number, segmentPath(number)));
+        segments = next;
+    }
+
+    private void writeManifest() throws IOException {
+        StringBuilder list = new StringBuilder();
+        for (SearchSegment s : segments) {
+            if (!list.isEmpty()) list.append(',');
+            list.append(s.number);
+        }
+        String body = "maxIndexedId=" + maxIndexedId + "\n"
+                + "maxIndexedUrl=" + (maxIndexedUrl == null ? "" : maxIndexedUrl) + "\n"
+                + "nextSegment=" + nextSegment + "\n"
+                + "segments=" + list + "\n";
+        Path tmp = dir.resolve(MANIFEST + ".tmp");
+        Files.writeString(tmp, body, StandardCharsets.UTF_8);
+        Files.move(tmp, dir.resolve(MANIFEST), StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+    }
+
+    /** manifest에 없는 세그먼트 파일(병합으로 대체됐거나 기록 중 끊긴 것) 정리 */
+    private void deleteUnlisted() throws IOException {
+        List<Path> listed = new ArrayList<>();
+        for (SearchSegment s : segments) listed.add(s.path);
+        try (Stream<Path> files = Files.list(dir)) {
+            for (Path p : (Iterable<Path>) files::iterator) {
+                String name = p.getFileName().toString();
+                if (name.startsWith("seg-") && !listed.contains(p)) Files.deleteIfExists(p);
+            }
+        }
+    }
+
+    private Path segmentPath(int number) {
+        return dir.resolve(String.format("seg-%05d.idx", number));
+    }
+}
@@ -0,0 +1,4 @@
+package com.exmaple.crawling;
+
+/** 검색 결과 한 건: 기사 요약 + BM25 점수 */
+public record SearchResult(NewsSummary news, double score) {}
@@ -0,0 +1,242 @@
+package com.exmaple.crawling;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 디스크에 한 번 쓰고 다시 바꾸지 않는 역색인 조각.
+ * <pre>
+ * "NSI1" | 용어별 postings (docId 차이·tf를 varint로) | 문서표 (docId 차이, 길이) | 용어 사전 | 꼬리(문서표 위치, 사전 위치)
+ * </pre>
+ * 열 때 파일을 mmap 하고 문서표와 사전만 메모리로 올린다. postings는 조회 때 필요한 용어만 디코딩.
+ */
+final class SearchSegment {
+    private static final int MAGIC = 0x4e534931; // "NSI1"
+
+    /** 용어 하나의 postings (docId 오름차순) */
+    static final class Postings {
+        long[] ids = new long[4];
+        int[] tfs = new int[4];
+        int size;
+
+        /** docId 오름차순 정렬 (버퍼·병합 결과는 커밋 순서라 섞여 있을 수 있다) */
+        void sort() {
+            for (int i = 1; i < size; i++) {
+                if (ids[i - 1] > ids[i]) {
+                    Integer[] order = new Integer[size];
+                    for (int k = 0; k < size; k++) order[k] = k;
+                    Arrays.sort(order, (a, b) -> Long.compare(ids[a], ids[b]));
+                    long[] sortedIds = new long[size];
+                    int[] sortedTfs = new int[size];
+                    for (int k = 0; k < size; k++) {
+                        sortedIds[k] = ids[order[k]];
+                        sortedTfs[k] = tfs[order[k]];
+                    }
+                    ids = sortedIds;
+                    tfs = sortedTfs;
+                    return;
+                }
+            }
+        }
+
+        void add(long id, int tf) {
+            if (size == ids.length) {
+                ids = Arrays.copyOf(ids, size * 2);
+                tfs = Arrays.copyOf(tfs, size * 2);
+            }
+            ids[size] = id;
+            tfs[size++] = tf;
+        }
+    }
+
+    private record TermInfo(int df, int offset, int length) {}
+
+    final int number;
+    final Path path;
+    private final MappedByteBuffer data;
+    private final long[] docIds;
+    private final int[] docLengths;
+    private final long totalLength;
+    private final Map<String, TermInfo> terms;
+
+    private SearchSegment(int number, Path path, MappedByteBuffer data, long[] docIds, int[] docLengths,
+                          Map<String, TermInfo> terms) {
+        this.number = number;
+        this.path = path;
+        this.data = data;
+        this.docIds = docIds;
+        this.docLengths = docLengths;
+        this.terms = terms;
+        long total = 0;
+        for (int len : docLengths) total += len;
+        this.totalLength = total;
+    }
+
+    /**
+     * terms는 용어 정렬 순으로 하나씩 흘려준다(병합 때 전체를 메모리에 올리지 않게).
+     * 각 postings와 docIds는 docId 오름차순이어야 한다.
+     */
+    static void write(Path path, Iterator<Map.Entry<String, Postings>> terms, long[] docIds, int[] docLengths)
+            throws IOException {
+        Path tmp = path.resolveSibling(path.getFileName() + ".tmp");
+        try (OutputStream file = Files.newOutputStream(tmp);
+             CountingOutput out = new CountingOutput(new BufferedOutputStream(file, 1 << 16))) {
+            out.writeInt(MAGIC);
+            Map<String, int[]> where = new LinkedHashMap<>();
+            while (terms.hasNext()) {
+                Map.Entry<String, Postings> e = terms.next();
+                Postings p = e.getValue();
+                int start = out.size();
+                long prev = 0;
+                for (int i = 0; i < p.size; i++) {
+                    out.varint(p.ids[i] - prev);
+                    out.varint(p.tfs[i]);
+                    prev = p.ids[i];
+                }
+                where.put(e.getKey(), new int[]{p.size, start, out.size() - start});
+            }
+
+            long docsAt = out.size();
+            out.varint(docIds.length);
+            long prev = 0;
+            for (int i = 0; i < docIds.length; i++) {
+                out.varint(docIds[i] - prev);
+                out.varint(docLengths[i]);
+                prev = docIds[i];
+            }
+
+            long dictAt = out.size();
+            out.varint(where.size());
+            for (Map.Entry<String, int[]> e : where.entrySet()) {
+                byte[] t = e.getKey().getBytes(StandardCharsets.UTF_8);
+                int[] w = e.getValue();
+                out.varint(t.length);
+                out.write(t);
+                out.varint(w[0]);
+                out.varint(w[1]);
+                out.varint(w[2]);
+            }
+            out.writeLong(docsAt);
+            out.writeLong(dictAt);
+        }
+        Files.move(tmp, path, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+    }
+
+    static SearchSegment open(int number, Path path) throws IOException {
+        MappedByteBuffer data;
+        try (FileChannel ch = FileChannel.open(path, StandardOpenOption.READ)) {
+            data = ch.map(FileChannel.MapMode.READ_ONLY, 0, ch.size());
+        }
+        if (data.getInt(0) != MAGIC) throw new IOException("not a search segment: " + path);
+        int size = data.capacity();
+        ByteBuffer docs = data.duplicate().position((int) data.getLong(size - 16));
+        int n = (int) varint(docs);
+        long[] ids = new long[n];
+        int[] lens = new int[n];
+        long prev = 0;
+        for (int i = 0; i < n; i++) {
+            prev += varint(docs);
+            ids[i] = prev;
+            lens[i] = (int) varint(docs);
+        }
+
+        ByteBuffer dict = data.duplicate().position((int) data.getLong(size - 8));
+        int count = (int) varint(dict);
+        Map<String, TermInfo> terms = new HashMap<>(count * 2);
+        for (int i = 0; i < count; i++) {
+            byte[] t = new byte[(int) varint(dict)];
+            dict.get(t);
+            terms.put(new String(t, StandardCharsets.UTF_8),
+                    new TermInfo((int) varint(dict), (int) varint(dict), (int) varint(dict)));
+        }
+        return new SearchSegment(number, path, data, ids, lens, terms);
+    }
+
+    int docCount() {
+        return docIds.length;
+    }
+
+    long totalLength() {
+        return totalLength;
+    }
+
+    int df(String term) {
+        TermInfo t = terms.get(term);
+        return t == null ? 0 : t.df();
+    }
+
+    boolean contains(long docId) {
+        return Arrays.binarySearch(docIds, docId) >= 0;
+    }
+
+    /** 문서 길이 (없으면 -1) */
+    int length(long docId) {
+        int i = Arrays.binarySearch(docIds, docId);
+        return i >= 0 ? docLengths[i] : -1;
+    }
+
+    long[] docIds() {
+        return docIds;
+    }
+
+    /** 용어의 postings 디코딩. 없으면 null */
+    Postings postings(String term) {
+        TermInfo t = terms.get(term);
+        if (t == null) return null;
+        ByteBuffer buf = data.slice(t.offset(), t.length());
+        Postings p = new Postings();
+        p.ids = new long[t.df()];
+        p.tfs = new int[t.df()];
+        long prev = 0;
+        for (int i = 0; i < t.df(); i++) {
+            prev += varint(buf);
+            p.ids[i] = prev;
+            p.tfs[i] = (int) varint(buf);
+        }
+        p.size = t.df();
+        return p;
+    }
+
+    Iterable<String> terms() {
+        return terms.keySet();
+    }
+
+    private static long varint(ByteBuffer buf) {
+        long v = 0;
+        for (int shift = 0; ; shift += 7) {
+            byte b = buf.get();
+            v |= (long) (b & 0x7f) << shift;
+            if (b >= 0) return v;
+        }
+    }
+
+    /** DataOutputStream + varint. 위치는 size()로 (세그먼트는 mmap 한계상 2GB 미만) */
+    private static final class CountingOutput extends DataOutputStream {
+        CountingOutput(OutputStream out) {
+            super(out);
+        }
+
+        void varint(long v) throws IOException {
+            while ((v & ~0x7fL) != 0) {
+                write((int) ((v & 0x7f) | 0x80));
+                v >>>= 7;
+            }
+            write((int) v);
+        }
+    }
+}
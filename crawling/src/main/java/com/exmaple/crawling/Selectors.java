@@ -0,0 +1,28 @@
+package com.exmaple.crawling;
+
+import org.jsoup.nodes.Element;
+import org.jsoup.select.Evaluator;
+import org.jsoup.select.QueryParser;
+
+/** 추출기 공용: CSS 셀렉터를 미리 컴파일해 두고 재사용 */
+final class Selectors {
+    private Selectors() {}
+
+    static Evaluator css(String query) {
+        return QueryParser.parse(query);
+    }
+
+    static String meta(Element root, Evaluator sel) {
+        Element e = root.selectFirst(sel);
+        return e == null ? null : e.attr("content");
+    }
+
+    /** srcset 첫 항목의 URL 부분 */
+    static String firstSrcset(Element img) {
+        String srcset = img.attr("srcset");
+        int comma = srcset.indexOf(',');
+        String first = (comma >= 0 ? srcset.substring(0, comma) : srcset).trim();
+        int space = first.indexOf(' ');
+        return img.absUrl(space >= 0 ? first.substring(0, space) : first);
+    }
+}
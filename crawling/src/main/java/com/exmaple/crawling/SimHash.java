@@ -0,0 +1,52 @@
+package com.exmaple.crawling;
+
+/**
+ * 본문 SimHash (64비트). 문자·숫자만 남기고 소문자로 바꾼 뒤 연속 4글자 shingle마다
+ * 64비트 해시를 만들어 비트별로 투표한다. 띄어쓰기·문장부호 차이는 지문에 영향이 없다.
+ * 입력은 본문 텍스트만이다 (이미지 URL은 news_image 테이블에 따로 있다).
+ */
+public final class SimHash {
+    private static final int SHINGLE = 4;
+
+    private SimHash() {}
+
+    /** 정규화 후 글자 수가 minChars 미만이면 지문이 흔들리기 쉬워 null */
+    public static Long of(String content, int minChars) {
+        if (content == null) return null;
+        char[] norm = new char[content.length()];
+        int n = 0;
+        for (int i = 0; i < content.length(); i++) {
+            char c = content.charAt(i);
+            if (Character.isLetterOrDigit(c)) norm[n++] = Character.toLowerCase(c);
+        }
+        if (n < Math.max(SHINGLE, minChars)) return null;
+
+        int[] votes = new int[64];
+        for (int i = 0; i + SHINGLE <= n; i++) {
+            // 16비트 글자 4개가 정확히 64비트에 들어간다
+            long h = mix(((long) norm[i] << 48) | ((long) norm[i + 1] << 32) | ((long) norm[i + 2] << 16) | norm[i + 3]);
+            for (int b = 0; b < 64; b++) {
+                votes[b] += (int) ((h >>> b) & 1) * 2 - 1;
+            }
+        }
+        long fp = 0;
+        for (int b = 0; b < 64; b++) {
+            if (votes[b] > 0) fp |= 1L << b;
+        }
+        return fp;
+    }
+
+    public static int distance(long a, long b) {
+        return Long.bitCount(a ^ b);
+    }
+
+    /** murmur3 fmix64 */
+    private static long mix(long h) {
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        h ^= h >>> 33;
+        return h;
+    }
+}
@@ -0,0 +1,81 @@
+package com.exmaple.crawling;
+
+import java.util.Arrays;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * SimHash 근접 검색용 밴드 인덱스. 64비트를 16비트씩 4개 밴드로 나누면
+ * 해밍 거리 3 이하인 두 지문은 적어도 한 밴드가 정확히 같다(비둘기집). 그래서 밴드 값이 같은
+ * 버킷만 훑으면 되고, 버킷은 밴드당 65536개라 100만 건에서도 버킷 하나가 수십 건 수준이다.
+ */
+public class SimHashIndex {
+    public static final int MAX_DISTANCE = 3;
+    private static final int BANDS = 4;
+    private static final int BAND_BITS = 16;
+
+    private final Bucket[][] buckets = new Bucket[BANDS][1 << BAND_BITS];
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private int size;
+
+    /** 거리 maxDistance(최대 3) 이내인 지문의 ID. 없으면 null */
+    public Long find(long fp, int maxDistance) {
+        int k = Math.min(maxDistance, MAX_DISTANCE);
+        lock.readLock().lock();
+        try {
+            for (int band = 0; band < BANDS; band++) {
+                Bucket b = buckets[band][key(fp, band)];
+                if (b == null) continue;
+                for (int i = 0; i < b.size; i++) {
+                    if (Long.bitCount(b.fps[i] ^ fp) <= k) return b.ids[i];
+                }
+            }
+            return null;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public void add(long fp, long id) {
+        lock.writeLock().lock();
+        try {
+            for (int band = 0; band < BANDS; band++) {
+                int key = key(fp, band);
+                Bucket b = buckets[band][key];
+                if (b == null) buckets[band][key] = b = new Bucket();
+                b.add(fp, id);
+            }
+            size++;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return size;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private static int key(long fp, int band) {
+        return (int) (fp >>> (band * BAND_BITS)) & ((1 << BAND_BITS) - 1);
+    }
+
+    /** 지문/ID 병렬 배열. 박싱 없이 훑는다 */
+    private static final class Bucket {
+        long[] fps = new long[2];
+        long[] ids = new long[2];
+        int size;
+
+        void add(long fp, long id) {
+            if (size == fps.length) {
+                fps = Arrays.copyOf(fps, size * 2);
+                ids = Arrays.copyOf(ids, size * 2);
+            }
+            fps[size] = fp;
+            ids[size++] = id;
+        }
+    }
+}
@@ -0,0 +1,55 @@
+package com.exmaple.crawling;
+
+import org.jsoup.nodes.Document;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 포털 하나의 수집 규칙: 목록 페이지 순회 + 기사 추출.
+ * 구현체는 @Component로 등록하면 SiteExtractorRegistry가 모아서 NewsService가 같은 파이프라인으로 돌린다.
+ * 셀렉터·정규식은 생성 시 한 번만 컴파일해 두고 기사마다 다시 파싱하지 않는다.
+ */
+public interface SiteExtractor {
+
+    /** News.source 값이자 API의 source 파라미터 (daum, naver …) */
+    String source();
+
+    Set<String> categories();
+
+    /** 카테고리 첫 목록 페이지 */
+    String firstListUrl(String category);
+
+    /** 목록 페이지의 기사 링크 (정규화된 URL, 페이지 내 순서 유지) */
+    List<String> extractLinks(Document list);
+
+    /**
+     * 다음 목록 페이지. 없으면 null.
+     * @param page      다음에 가져올 페이지 번호(2부터)
+     * @param foundNew  방금 페이지에서 처음 보는 링크가 있었는지
+     */
+    String nextListUrl(Document list, String currentUrl, int page, boolean foundNew);
+
+    /** 기사 상세 → News. 본문을 찾지 못하면 null */
+    News parse(Document doc, String category);
+
+    /**
+     * 파이프라인 parse 단계가 부르는 진입점. 기본은 DOM을 만들어 parse(Document)로 넘긴다.
+     * 원본 바이트만으로 뽑을 수 있는 사이트는 재정의해서 DOM 생성을 건너뛴다.
+     * sourceUrl은 리다이렉트된 최종 URL이 아니라 요청한 URL로 정한다 (프런티어가 목록에서 본 URL과 맞아야 다음에 건너뛴다).
+     */
+    default News parse(FetchedPage page, String category) throws IOException {
+        News n = parse(page.parse(), category);
+        if (n != null) n.setSourceUrl(UrlCanonicalizer.canonical(page.url()));
+        return n;
+    }
+
+    default int listTimeoutMillis() {
+        return 15000;
+    }
+
+    default int articleTimeoutMillis() {
+        return 10000;
+    }
+}
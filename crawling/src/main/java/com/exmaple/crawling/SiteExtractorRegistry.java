@@ -0,0 +1,35 @@
+package com.exmaple.crawling;
+
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/** 등록된 SiteExtractor 빈을 source 이름으로 찾는다 */
+@Component
+public class SiteExtractorRegistry {
+    private final Map<String, SiteExtractor> bySource = new LinkedHashMap<>();
+
+    public SiteExtractorRegistry(List<SiteExtractor> extractors) {
+        for (SiteExtractor e : extractors) {
+            if (bySource.putIfAbsent(e.source(), e) != null) {
+                throw new IllegalStateException("duplicate SiteExtractor source: " + e.source());
+            }
+        }
+    }
+
+    public Optional<SiteExtractor> find(String source) {
+        return Optional.ofNullable(bySource.get(source));
+    }
+
+    public SiteExtractor get(String source) {
+        return find(source).orElseThrow(() -> new IllegalArgumentException("unknown source: " + source));
+    }
+
+    public Collection<SiteExtractor> all() {
+        return bySource.values();
+    }
+}
@@ -0,0 +1,68 @@
+package com.exmaple.crawling;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * URL 전용 Bloom filter. false면 확실히 처음 보는 URL, true면 "아마도" 본 URL.
+ * 비트 설정은 CAS라 파이프라인 여러 스레드에서 잠금 없이 add/mightContain 가능.
+ */
+public class UrlBloomFilter {
+    private final AtomicLongArray bits;
+    private final long bitCount;
+    private final int hashCount;
+
+    public UrlBloomFilter(long expectedInsertions, double falsePositiveRate) {
+        long n = Math.max(1, expectedInsertions);
+        double p = Math.min(0.5, Math.max(1e-9, falsePositiveRate));
+        long m = (long) Math.ceil(-n * Math.log(p) / (Math.log(2) * Math.log(2)));
+        this.bitCount = Math.max(64, (m + 63) / 64 * 64);
+        this.hashCount = Math.max(1, (int) Math.round((double) bitCount / n * Math.log(2)));
+        this.bits = new AtomicLongArray(Math.toIntExact(bitCount / 64));
+    }
+
+    public void add(String url) {
+        long h = hash(url);
+        int h1 = (int) h, h2 = (int) (h >>> 32);
+        for (int i = 1; i <= hashCount; i++) {
+            long idx = index(h1 + i * h2);
+            int word = (int) (idx >>> 6);
+            long mask = 1L << idx;
+            long cur;
+            do {
+                cur = bits.get(word);
+                if ((cur & mask) != 0) break;
+            } while (!bits.compareAndSet(word, cur, cur | mask));
+        }
+    }
+
+    public boolean mightContain(String url) {
+        long h = hash(url);
+        int h1 = (int) h, h2 = (int) (h >>> 32);
+        for (int i = 1; i <= hashCount; i++) {
+            long idx = index(h1 + i * h2);
+            if ((bits.get((int) (idx >>> 6)) & (1L << idx)) == 0) return false;
+        }
+        return true;
+    }
+
+    private long index(int combined) {
+        // Kirsch–Mitzenmacher 이중 해싱: 음수 방지 후 비트 수로 나머지
+        return (combined & 0x7fffffffL) % bitCount;
+    }
+
+    /** 64비트 FNV-1a + murmur finalizer */
+    private static long hash(String s) {
+        long h = 0xcbf29ce484222325L;
+        for (byte b : s.getBytes(StandardCharsets.UTF_8)) {
+            h ^= b;
+            h *= 0x100000001b3L;
+        }
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        h ^= h >>> 33;
+        return h;
+    }
+}
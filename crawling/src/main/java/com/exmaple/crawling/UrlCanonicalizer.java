@@ -0,0 +1,62 @@
+package com.exmaple.crawling;
+
+import java.net.URI;
+
+/** 기사 URL 정규화: 같은 기사는 항상 같은 문자열이 되도록 (News.sourceUrl 유니크 키) */
+public final class UrlCanonicalizer {
+    private UrlCanonicalizer() {}
+
+    /** 네이버는 모바일 상세(n.news)로 통일, 공통으로 쿼리/fragment/끝 슬래시 제거 + 호스트 소문자 */
+    public static String canonical(String href) {
+        if (href == null || href.isBlank()) return href;
+        String url = toNaverMobileUrl(href.trim());
+        try {
+            URI u = URI.create(url);
+            if (u.getHost() == null) return url;
+            String path = u.getRawPath() == null ? "" : u.getRawPath();
+            if (path.length() > 1 && path.endsWith("/")) path = path.substring(0, path.length() - 1);
+            return "https://" + u.getHost().toLowerCase() + path;
+        } catch (Exception ignore) {
+            return url;
+        }
+    }
+
+    /** read.naver?oid=...&aid=... 형태를 n.news 모바일 URL로 변환 */
+    static String toNaverMobileUrl(String href) {
+        try {
+            java.net.URI u = java.net.URI.create(href);
+            String host = u.getHost() == null ? "" : u.getHost();
+            String path = u.getPath() == null ? "" : u.getPath();
+
+            // 이미 모바일(mnews)면 그대로
+            if (host.contains("n.news.naver.com") && path.contains("/mnews/article/")) return href;
+
+            // read.naver?oid=xxx&aid=yyy → /mnews/article/oid/aid
+            if (host.contains("news.naver.com") && href.contains("read.naver")) {
+                java.util.Map<String, String> q = splitQuery(u.getRawQuery());
+                String oid = q.get("oid");
+                String aid = q.get("aid");
+                if (oid != null && aid != null) {
+                    return "https://n.news.naver.com/mnews/article/" + oid + "/" + aid;
+                }
+            }
+            // 이미 mnews/article 링크인 경우도 abs 처리
+            if (host.contains("news.naver.com") && path.contains("/mnews/article/")) {
+                return "https://n.news.naver.com" + path;
+            }
+        } catch (Exception ignore) {}
+        return href;
+    }
+
+    private static java.util.Map<String, String> splitQuery(String query) {
+        java.util.Map<String, String> map = new java.util.HashMap<>();
+        if (query == null || query.isBlank()) return map;
+        for (String p : query.split("&")) {
+            int i = p.indexOf('=');
+            if (i >= 0) map.put(java.net.URLDecoder.decode(p.substring(0,i), java.nio.charset.StandardCharsets.UTF_8),
+                    java.net.URLDecoder.decode(p.substring(i+1), java.nio.charset.StandardCharsets.UTF_8));
+            else map.put(p, "");
+        }
+        return map;
+    }
+}
@@ -0,0 +1,38 @@
+package com.exmaple.crawling;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CircuitBreakerTest {
+
+    @Test
+    void breakerOpensThenLetsOneTrialThrough() throws Exception {
+        CircuitBreaker breaker = new CircuitBreaker(2, 0);
+        breaker.onFailure();
+        assertThat(breaker.state()).isEqualTo(CircuitBreaker.State.CLOSED);
+        breaker.onFailure();
+        assertThat(breaker.state()).isEqualTo(CircuitBreaker.State.OPEN);
+
+        assertThat(breaker.check("news.daum.net")).isTrue(); // open 시간(0) 경과 → 시험 요청 1건 허용
+        assertThatThrownBy(() -> breaker.check("news.daum.net"))
+                .isInstanceOf(CircuitBreaker.OpenException.class);
+
+        breaker.onSuccess();
+        assertThat(breaker.state()).isEqualTo(CircuitBreaker.State.CLOSED);
+        assertThat(breaker.check("news.daum.net")).isFalse();
+    }
+
+    @Test
+    void releasedTrialLetsNextRequestTry() throws Exception {
+        CircuitBreaker breaker = new CircuitBreaker(1, 0);
+        breaker.onFailure();
+        assertThat(breaker.check("news.daum.net")).isTrue();
+
+        breaker.release();
+
+        assertThat(breaker.state()).isEqualTo(CircuitBreaker.State.HALF_OPEN);
+        assertThat(breaker.check("news.daum.net")).isTrue();
+    }
+}
@@ -0,0 +1,62 @@
+package com.exmaple.crawling;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CrawlArchiveTest {
+
+    @TempDir
+    Path dir;
+
+    private CrawlProperties props(CrawlProperties.Archive.Mode mode, long segmentBytes) {
+        CrawlProperties props = new CrawlProperties();
+        props.getArchive().setMode(mode);
+        props.getArchive().setDir(dir.toString());
+        props.getArchive().setSegmentBytes(segmentBytes);
+        return props;
+    }
+
+    private static FetchedPage page(String url, String html) {
+        return new FetchedPage(url, html.getBytes(StandardCharsets.UTF_8), "UTF-8");
+    }
+
+    @Test
+    void recordedPagesReadBackAcrossSegmentsAndRestarts() throws Exception {
+        CrawlArchive writer = new CrawlArchive(props(CrawlProperties.Archive.Mode.RECORD, 200));
+        writer.append(CrawlArchive.Kind.LIST, "daum", "economy", page("https://news.daum.net/economy", "<a>목록</a>"));
+        writer.append(CrawlArchive.Kind.ARTICLE, "daum", "economy", page("https://v.daum.net/v/1", "<p>첫 기사</p>"));
+        writer.append(CrawlArchive.Kind.ARTICLE, "daum", "economy", page("https://v.daum.net/v/1", "<p>고친 기사</p>"));
+        writer.close();
+
+        CrawlArchive reader = new CrawlArchive(props(CrawlProperties.Archive.Mode.REPLAY, 200));
+        List<CrawlArchive.Entry> entries = reader.entries();
+        assertThat(entries).hasSize(3);
+        assertThat(entries).extracting(CrawlArchive.Entry::segment).doesNotHaveDuplicates(); // 200B 세그먼트라 매번 넘어감
+        assertThat(reader.latestEntries()).hasSize(2);
+
+        FetchedPage latest = reader.find("https://v.daum.net/v/1").orElseThrow();
+        assertThat(new String(latest.body(), StandardCharsets.UTF_8)).isEqualTo("<p>고친 기사</p>");
+        assertThat(latest.charset()).isEqualTo("UTF-8");
+        assertThat(reader.find("https://v.daum.net/v/2")).isEmpty();
+    }
+
+    @Test
+    void redirectedPageReplaysAgainstFinalUrl() throws Exception {
+        CrawlArchive writer = new CrawlArchive(props(CrawlProperties.Archive.Mode.RECORD, 1 << 20));
+        writer.append(CrawlArchive.Kind.ARTICLE, "daum", "economy", new FetchedPage("https://v.daum.net/v/1",
+                "<img src=\"a.jpg\">".getBytes(StandardCharsets.UTF_8), "UTF-8", "https://news.v.daum.net/v/1/"));
+        writer.close();
+
+        CrawlArchive reader = new CrawlArchive(props(CrawlProperties.Archive.Mode.REPLAY, 1 << 20));
+        FetchedPage replayed = reader.find("https://v.daum.net/v/1").orElseThrow();
+        assertThat(replayed.url()).isEqualTo("https://v.daum.net/v/1");
+        assertThat(replayed.location()).isEqualTo("https://news.v.daum.net/v/1/");
+        assertThat(replayed.parse().selectFirst("img").attr("abs:src")).isEqualTo("https://news.v.daum.net/v/1/a.jpg");
+    }
+}
@@ -0,0 +1,74 @@
+package com.exmaple.crawling;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.awaitility.Awaitility.await;
+
+class CrawlJobServiceTest {
+
+    private final CrawlProperties props = new CrawlProperties();
+    private CrawlJobService service;
+
+    @AfterEach
+    void tearDown() {
+        service.shutdown();
+    }
+
+    @Test
+    void reportsProgressAndResult() {
+        service = new CrawlJobService(props);
+        CrawlJob job = service.submit("test", l -> {
+            l.onPage("https://news.daum.net/economy");
+            l.onSaved(2);
+            l.onFailure("https://v.daum.net/v/1", "boom");
+            return List.of(1L, 2L);
+        });
+
+        await().atMost(5, TimeUnit.SECONDS).until(job::isFinished);
+        CrawlJobStatus s = job.snapshot();
+        assertThat(s.status()).isEqualTo(CrawlJob.Status.SUCCEEDED);
+        assertThat(s.saved()).isEqualTo(2);
+        assertThat(s.failures()).isEqualTo(1);
+        assertThat(s.savedIds()).containsExactly(1L, 2L);
+    }
+
+    @Test
+    void cancelInterruptsRunningJob() throws Exception {
+        service = new CrawlJobService(props);
+        CountDownLatch started = new CountDownLatch(1);
+        CrawlJob job = service.submit("test", l -> {
+            started.countDown();
+            Thread.sleep(60_000);
+            return List.of();
+        });
+
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(service.cancel(job.getId())).isTrue();
+        await().atMost(5, TimeUnit.SECONDS).until(job::isFinished);
+        assertThat(job.getStatus()).isEqualTo(CrawlJob.Status.CANCELLED);
+    }
+
+    @Test
+    void rejectsWhenQueueIsFull() {
+        props.getJobs().setMaxConcurrent(1);
+        props.getJobs().setQueueCapacity(1);
+        service = new CrawlJobService(props);
+        CrawlJob.Task blocking = l -> {
+            Thread.sleep(60_000);
+            return List.of();
+        };
+
+        service.submit("running", blocking);
+        service.submit("queued", blocking);
+        assertThatThrownBy(() -> service.submit("rejected", blocking))
+                .isInstanceOf(RejectedExecutionException.class);
+    }
+}
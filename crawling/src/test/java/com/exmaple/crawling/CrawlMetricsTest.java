@@ -0,0 +1,88 @@
+package com.exmaple.crawling;
+
+import com.sun.net.httpserver.HttpServer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.net.InetSocketAddress;
+import java.net.http.HttpClient;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class CrawlMetricsTest {
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final CrawlMetrics metrics = new CrawlMetrics(registry);
+    private HttpServer server;
+
+    @AfterEach
+    void stop() {
+        if (server != null) server.stop(0);
+    }
+
+    @Test
+    void fetchRecordsLatencyPerStatusAndCountsRetries() throws Exception {
+        AtomicInteger calls = new AtomicInteger();
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/v/1", ex -> {
+            if (calls.incrementAndGet() == 1) {
+                ex.sendResponseHeaders(503, -1);
+            } else {
+                byte[] body = "<p>본문</p>".getBytes();
+                ex.sendResponseHeaders(200, body.length);
+                ex.getResponseBody().write(body);
+            }
+            ex.close();
+        });
+        server.start();
+
+        CrawlProperties props = new CrawlProperties();
+        props.getHttp().setHttp2(false);
+        props.getFetch().getDefaults().setRequestsPerSecond(0);
+        props.getRetry().setBaseDelayMillis(1);
+        PageFetcher fetcher = new PageFetcher(new HostThrottle(props), HttpClient.newHttpClient(), props,
+                new RetryPolicy(props), new BandwidthLimiter(props), new CrawlArchive(props), new ListPageCache(props),
+                metrics);
+
+        fetcher.fetch("http://127.0.0.1:" + server.getAddress().getPort() + "/v/1", 2000);
+
+        assertThat(registry.get("crawler.fetch").tags("host", "127.0.0.1", "status", "503").timer().count()).isEqualTo(1);
+        assertThat(registry.get("crawler.fetch").tags("host", "127.0.0.1", "status", "200").timer().count()).isEqualTo(1);
+        assertThat(registry.get("crawler.fetch.retries").tags("reason", "503").counter().count()).isEqualTo(1);
+        assertThat(registry.get("crawler.fetch.wait").tag("host", "127.0.0.1").timer().count()).isEqualTo(2);
+    }
+
+    @Test
+    void pipelineRecordsPersistBatchesAndStageFailures() throws Exception {
+        PageFetcher fetcher = mock(PageFetcher.class);
+        NewsWriter writer = mock(NewsWriter.class);
+        when(fetcher.fetch(anyString(), anyInt()))
+                .thenAnswer(inv -> new FetchedPage(inv.getArgument(0), new byte[0], "UTF-8"));
+        when(writer.saveAll(any())).thenAnswer(inv -> {
+            List<News> batch = inv.getArgument(0);
+            return batch.stream().map(n -> 1L).toList();
+        });
+        CrawlPipeline pipeline = new CrawlPipeline(fetcher, writer, new CrawlProperties(), metrics);
+
+        List<Long> saved = pipeline.run(sink -> {
+            for (int i = 0; i < 4; i++) sink.offer("https://v.daum.net/v/" + i);
+        }, page -> {
+            if (page.url().endsWith("2")) throw new IllegalStateException("broken");
+            return new News();
+        }, 1000, 10, "test");
+
+        assertThat(saved).hasSize(3);
+        assertThat(registry.get("crawler.failures").tag("stage", "parse").counter().count()).isEqualTo(1);
+        assertThat(registry.get("crawler.persist").tag("mode", "batch").timer().count()).isPositive();
+        assertThat(registry.get("crawler.persist.batch.size").summary().totalAmount()).isEqualTo(3);
+        // 실행이 끝나면 큐 깊이 게이지에서 빠진다
+        assertThat(registry.get("crawler.pipeline.queue.size").tag("stage", "urls").gauge().value()).isZero();
+    }
+}
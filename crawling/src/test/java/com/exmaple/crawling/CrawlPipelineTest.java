@@ -0,0 +1,79 @@
+package com.exmaple.crawling;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class CrawlPipelineTest {
+
+    private final PageFetcher fetcher = mock(PageFetcher.class);
+    private final NewsWriter writer = mock(NewsWriter.class);
+    private final CrawlPipeline pipeline = new CrawlPipeline(fetcher, writer, new CrawlProperties(),
+            new CrawlMetrics(new SimpleMeterRegistry()));
+
+    @Test
+    void stopsAtExactlyWant() throws Exception {
+        AtomicLong ids = new AtomicLong();
+        when(fetcher.fetch(anyString(), anyInt()))
+                .thenAnswer(inv -> new FetchedPage(inv.getArgument(0), new byte[0], "UTF-8"));
+        when(writer.saveAll(any())).thenAnswer(inv -> {
+            List<News> batch = inv.getArgument(0);
+            return batch.stream().map(n -> ids.incrementAndGet()).toList();
+        });
+
+        List<Long> saved = pipeline.run(sink -> {
+            for (int i = 0; i < 1000; i++) {
+                if (!sink.offer("https://v.daum.net/v/" + i)) return;
+            }
+        }, page -> new News(), 1000, 7, "test");
+
+        assertThat(saved).hasSize(7).doesNotHaveDuplicates();
+    }
+
+    @Test
+    void endsWhenLinksRunOut() throws Exception {
+        when(fetcher.fetch(anyString(), anyInt()))
+                .thenAnswer(inv -> new FetchedPage(inv.getArgument(0), new byte[0], "UTF-8"));
+        when(writer.saveAll(any())).thenAnswer(inv -> {
+            List<News> batch = inv.getArgument(0);
+            return batch.stream().map(n -> 1L).toList();
+        });
+
+        List<Long> saved = pipeline.run(sink -> {
+            for (int i = 0; i < 3; i++) sink.offer("https://v.daum.net/v/" + i);
+        }, page -> page.url().endsWith("1") ? null : new News(), 1000, 10, "test");
+
+        assertThat(saved).hasSize(2);
+    }
+
+    @Test
+    void batchesNeverOvershootWant() throws Exception {
+        CrawlProperties props = new CrawlProperties();
+        props.getPersist().setBatchSize(4);
+        CrawlPipeline batched = new CrawlPipeline(fetcher, writer, props, new CrawlMetrics(new SimpleMeterRegistry()));
+        when(fetcher.fetch(anyString(), anyInt()))
+                .thenAnswer(inv -> new FetchedPage(inv.getArgument(0), new byte[0], "UTF-8"));
+        when(writer.saveAll(any())).thenAnswer(inv -> {
+            List<News> batch = inv.getArgument(0);
+            assertThat(batch.size()).isLessThanOrEqualTo(4);
+            return batch.stream().map(n -> 1L).toList();
+        });
+
+        List<Long> saved = batched.run(sink -> {
+            for (int i = 0; i < 100; i++) {
+                if (!sink.offer("https://v.daum.net/v/" + i)) return;
+            }
+        }, page -> new News(), 1000, 10, "test");
+
+        assertThat(saved).hasSize(10);
+    }
+}
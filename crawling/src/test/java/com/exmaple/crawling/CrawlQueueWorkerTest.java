@@ -0,0 +1,98 @@
+package com.exmaple.crawling;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class CrawlQueueWorkerTest {
+    private static final String ARTICLE = "https://v.daum.net/v/";
+
+    private final CrawlTaskQueue queue = mock(CrawlTaskQueue.class);
+    private final PageFetcher fetcher = mock(PageFetcher.class);
+    private final NewsService newsService = mock(NewsService.class);
+    private final NewsWriter writer = mock(NewsWriter.class);
+    private final CrawlQueueWorker worker = new CrawlQueueWorker(queue, fetcher, newsService, writer,
+            mock(CrawlFrontier.class), new SiteExtractorRegistry(List.of(new DaumExtractor())),
+            new CrawlMetrics(new SimpleMeterRegistry()), new CrawlProperties());
+
+    /** 기사 작업 n개. 추출은 URL을 sourceUrl로 둔 News 하나 */
+    private List<CrawlTask> articles(long... ids) throws Exception {
+        when(newsService.articleParser(any(), anyString())).thenReturn(page -> {
+            News n = new News();
+            n.setTitle("제목");
+            n.setBodyText("본문");
+            n.setSourceUrl(page.url());
+            return n;
+        });
+        List<CrawlTask> tasks = new ArrayList<>();
+        for (long id : ids) {
+            CrawlTask t = new CrawlTask();
+            t.setId(id);
+            t.setKind(CrawlTask.Kind.ARTICLE);
+            t.setSource("daum");
+            t.setCategory("economy");
+            t.setUrl(ARTICLE + id);
+            tasks.add(t);
+        }
+        return tasks;
+    }
+
+    private static FetchedPage html(String url) {
+        return new FetchedPage(url, "<p>본문</p>".getBytes(StandardCharsets.UTF_8), "UTF-8");
+    }
+
+    @Test
+    void failedBatchFallsBackToSingleSavesAndCompletesRowsThatAlreadyExist() throws Exception {
+        List<CrawlTask> tasks = articles(1, 2, 3);
+        when(fetcher.fetch(anyString(), anyInt())).thenAnswer(inv -> html(inv.getArgument(0)));
+        when(writer.saveAll(any())).thenThrow(new DataIntegrityViolationException("uk_source_url"));
+        when(writer.save(argThat(n -> n != null && n.getSourceUrl().endsWith("/1")))).thenReturn(11L);
+        when(writer.save(argThat(n -> n != null && n.getSourceUrl().endsWith("/2"))))
+                .thenThrow(new DataIntegrityViolationException("uk_source_url")); // 다른 인스턴스가 먼저 저장
+        when(writer.save(argThat(n -> n != null && n.getSourceUrl().endsWith("/3"))))
+                .thenThrow(new IllegalStateException("connection reset"));
+
+        worker.process(tasks);
+
+        verify(queue, never()).complete(worker.owner(), List.of(1L, 2L, 3L));
+        verify(queue).complete(worker.owner(), List.of(1L));
+        verify(queue).complete(worker.owner(), List.of(2L));
+        verify(queue, never()).complete(worker.owner(), List.of(3L));
+        verify(queue).fail(eq(worker.owner()), eq(3L), eq("connection reset"), anyBoolean());
+        verify(queue, never()).fail(anyString(), eq(2L), anyString(), anyBoolean());
+    }
+
+    @Test
+    void circuitOpenAndServerErrorsAreRetryableButNotFoundIsNot() throws Exception {
+        List<CrawlTask> tasks = articles(1, 2, 3, 4);
+        when(fetcher.fetch(eq(ARTICLE + 1), anyInt())).thenThrow(new CircuitBreaker.OpenException("v.daum.net"));
+        when(fetcher.fetch(eq(ARTICLE + 2), anyInt())).thenThrow(new FetchStatusException(503, ARTICLE + 2, 0));
+        when(fetcher.fetch(eq(ARTICLE + 3), anyInt())).thenThrow(new FetchStatusException(404, ARTICLE + 3, 0));
+        when(fetcher.fetch(eq(ARTICLE + 4), anyInt())).thenThrow(new IOException("connection reset"));
+
+        worker.process(tasks);
+
+        verify(queue).fail(eq(worker.owner()), eq(1L), anyString(), eq(true));
+        verify(queue).fail(eq(worker.owner()), eq(2L), anyString(), eq(true));
+        verify(queue).fail(eq(worker.owner()), eq(3L), anyString(), eq(false));
+        verify(queue).fail(eq(worker.owner()), eq(4L), anyString(), eq(true));
+        verify(queue, never()).complete(anyString(), any());
+        verify(writer, never()).saveAll(any());
+    }
+}
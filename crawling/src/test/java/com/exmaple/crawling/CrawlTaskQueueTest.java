@@ -0,0 +1,159 @@
+package com.exmaple.crawling;
+
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/** 내장 H2에서 실제 SQL로 임대·만료·하트비트를 확인한다 */
+@DataJpaTest
+@Import(CrawlTaskQueue.class)
+@EnableConfigurationProperties(CrawlProperties.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class CrawlTaskQueueTest {
+    private static final Duration LEASE = Duration.ofMinutes(1);
+    private static final Duration EXPIRED = Duration.ofSeconds(-1);
+
+    @Autowired
+    CrawlTaskQueue queue;
+    @Autowired
+    CrawlProperties props;
+    @Autowired
+    PlatformTransactionManager tx;
+    @Autowired
+    EntityManager em;
+
+    @BeforeEach
+    void clean() {
+        new TransactionTemplate(tx).executeWithoutResult(s -> em.createQuery("delete from CrawlTask").executeUpdate());
+        props.getQueue().setMaxAttempts(3);
+        props.getQueue().setRetryDelayMillis(0);
+    }
+
+    private void seed(int n) {
+        List<String> urls = new ArrayList<>();
+        for (int i = 0; i < n; i++) urls.add("https://example.com/a/" + i);
+        queue.enqueue(CrawlTask.Kind.ARTICLE, "daum", "economy", 0, urls);
+    }
+
+    private static List<Long> ids(List<CrawlTask> tasks) {
+        return tasks.stream().map(CrawlTask::getId).toList();
+    }
+
+    @Test
+    void concurrentLeasesSkipRowsLockedByAnotherWorker() throws Exception {
+        seed(4);
+        CountDownLatch leased = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        // A는 임대한 트랜잭션을 열어 둔 채로 기다린다 → 행 잠금이 유지된다
+        CompletableFuture<List<Long>> a = CompletableFuture.supplyAsync(() ->
+                new TransactionTemplate(tx).execute(s -> {
+                    List<Long> got = ids(queue.lease("a", 2, LEASE));
+                    leased.countDown();
+                    try {
+                        release.await(10, TimeUnit.SECONDS);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                    return got;
+                }));
+        assertThat(leased.await(10, TimeUnit.SECONDS)).isTrue();
+        List<Long> b = CompletableFuture.supplyAsync(() -> ids(queue.lease("b", 4, LEASE))).get(10, TimeUnit.SECONDS);
+        release.countDown();
+
+        assertThat(a.get(10, TimeUnit.SECONDS)).hasSize(2);
+        assertThat(b).hasSize(2).doesNotContainAnyElementsOf(a.get());
+        assertThat(queue.counts().get(CrawlTask.Status.LEASED)).isEqualTo(4);
+    }
+
+    @Test
+    void expiredLeaseIsTakenOverAndStaleOwnerCannotComplete() {
+        seed(1);
+        long id = queue.lease("dead", 1, EXPIRED).get(0).getId();
+
+        assertThat(ids(queue.lease("alive", 1, LEASE))).containsExactly(id);
+        assertThat(queue.complete("dead", List.of(id))).isZero();
+        assertThat(queue.heartbeat("dead", List.of(id), LEASE)).isZero();
+        assertThat(queue.complete("alive", List.of(id))).isEqualTo(1);
+        assertThat(queue.counts().get(CrawlTask.Status.DONE)).isEqualTo(1);
+    }
+
+    @Test
+    void heartbeatKeepsLeaseAlive() {
+        seed(1);
+        long id = queue.lease("w", 1, EXPIRED).get(0).getId();
+
+        assertThat(queue.heartbeat("w", List.of(id), LEASE)).isEqualTo(1);
+        assertThat(queue.lease("other", 1, LEASE)).isEmpty();
+    }
+
+    @Test
+    void taskFailsAfterMaxAttemptsOfExpiredLeases() {
+        props.getQueue().setMaxAttempts(2);
+        seed(1);
+        queue.lease("w1", 1, EXPIRED);
+        queue.lease("w2", 1, EXPIRED);
+
+        assertThat(queue.lease("w3", 1, LEASE)).isEmpty();
+        assertThat(queue.counts().get(CrawlTask.Status.FAILED)).isEqualTo(1);
+    }
+
+    @Test
+    void retryableFailureRequeuesUntilMaxAttempts() {
+        props.getQueue().setMaxAttempts(2);
+        seed(1);
+        long id = queue.lease("w", 1, LEASE).get(0).getId();
+        queue.fail("w", id, "timeout", true);
+        assertThat(queue.counts().get(CrawlTask.Status.QUEUED)).isEqualTo(1);
+
+        queue.lease("w", 1, LEASE);
+        queue.fail("w", id, "timeout", true);
+        assertThat(queue.counts().get(CrawlTask.Status.FAILED)).isEqualTo(1);
+    }
+
+    @Test
+    void retryableFailureWaitsForBackoffBeforeNextLease() {
+        props.getQueue().setRetryDelayMillis(60_000);
+        seed(2);
+        List<CrawlTask> first = queue.lease("w", 1, LEASE);
+        long id = first.get(0).getId();
+        queue.fail("w", id, "circuit open for example.com", true);
+
+        // 회로가 열린 동안 바로 다시 임대돼 시도 횟수를 다 써 버리지 않는다. 다른 작업은 그대로 나간다
+        List<CrawlTask> next = queue.lease("w", 2, LEASE);
+        assertThat(ids(next)).hasSize(1).doesNotContain(id);
+        assertThat(queue.lease("w", 2, LEASE)).isEmpty();
+        assertThat(queue.counts().get(CrawlTask.Status.QUEUED)).isEqualTo(1);
+    }
+
+    @Test
+    void enqueueSkipsKnownUrlsButRequeuesFinishedListPages() {
+        assertThat(queue.enqueue(CrawlTask.Kind.ARTICLE, "daum", "economy", 0,
+                List.of("https://example.com/x", "https://example.com/x"))).isEqualTo(1);
+        assertThat(queue.enqueue(CrawlTask.Kind.ARTICLE, "daum", "economy", 0, List.of("https://example.com/x")))
+                .isZero();
+
+        queue.enqueue(CrawlTask.Kind.LIST, "daum", "economy", 1, List.of("https://example.com/list"));
+        List<CrawlTask> leased = queue.lease("w", 2, LEASE);
+        queue.complete("w", ids(leased));
+        assertThat(queue.enqueue(CrawlTask.Kind.LIST, "daum", "economy", 1, List.of("https://example.com/list")))
+                .isEqualTo(1);
+        assertThat(queue.counts().get(CrawlTask.Status.QUEUED)).isEqualTo(1);
+    }
+}
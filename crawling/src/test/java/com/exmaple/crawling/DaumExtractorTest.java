@@ -0,0 +1,96 @@
+package com.exmaple.crawling;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class DaumExtractorTest {
+    private static final String URL = "https://v.daum.net/v/20251016093012345";
+    private static final String BODY = "한국은행은 16일 기준금리를 연 3.50%로 동결했다. 이번 결정은 시장 예상과 대체로 부합하는 수준으로 평가된다.";
+
+    private final DaumExtractor daum = new DaumExtractor();
+
+    @Test
+    void fastPathMatchesDomPath() throws Exception {
+        String html = """
+                <html><head><meta charset="utf-8">
+                <meta property="og:title" content="기준금리 동결 &quot;지켜봐야&quot;">
+                <meta property="article:published_time" content="2025-10-16T09:30:12+09:00">
+                </head><body>
+                <div class="info_view"><span class="txt_info">홍길동 기자</span></div>
+                <div id="harmonyContainer"><section>
+                <p>%s</p>
+                <img src="https://img1.daumcdn.net/thumb/R658x0/?fname=https%%3A%%2F%%2Ft1.daumcdn.net%%2Fnews%%2Fa.jpg">
+                </section></div>
+                <script type="application/ld+json">{"@type":"NewsArticle","author":{"@type":"Person","name":"홍길동 기자"},
+                "image":["https://t1.daumcdn.net/news/a.jpg"],"articleBody":"%s"}</script>
+                </body></html>
+                """.formatted(BODY, BODY);
+        FetchedPage page = new FetchedPage(URL, html.getBytes(StandardCharsets.UTF_8), null);
+
+        News fast = daum.parseFast(page, "economy");
+        News dom = daum.parse(page.parse(), "economy");
+
+        assertThat(fast).isNotNull();
+        assertThat(fast.getTitle()).isEqualTo("기준금리 동결 \"지켜봐야\"").isEqualTo(dom.getTitle());
+        assertThat(fast.getContent()).isEqualTo(dom.getContent()).contains("[IMAGES]\nhttps://t1.daumcdn.net/news/a.jpg");
+        assertThat(fast.getAuthor()).isEqualTo(dom.getAuthor());
+        assertThat(fast.getPostDate()).isEqualTo(dom.getPostDate());
+        assertThat(fast.getSourceUrl()).isEqualTo(dom.getSourceUrl());
+    }
+
+    @Test
+    void fastPathReadsUppercaseTagsAndQuotedGreaterThan() throws Exception {
+        String html = """
+                <HTML><HEAD><META PROPERTY="og:title" CONTENT="금리 > 물가?">
+                <Meta Name="date" Content="2025-10-16 08:00:00">
+                <meta property="article:published_time" content="2025-10-16T09:30:12+09:00">
+                </HEAD><BODY>
+                <SCRIPT TYPE="application/ld+json">{"@type":"NewsArticle","datePublished":"2025-10-15T00:00:00+09:00",
+                "articleBody":"%s"}</SCRIPT>
+                </BODY></HTML>
+                """.formatted(BODY);
+        FetchedPage page = new FetchedPage(URL, html.getBytes(StandardCharsets.UTF_8), "UTF-8");
+
+        News fast = daum.parseFast(page, "economy");
+        News dom = daum.parse(page.parse(), "economy");
+
+        assertThat(fast).isNotNull();
+        assertThat(fast.getTitle()).isEqualTo("금리 > 물가?").isEqualTo(dom.getTitle());
+        // 두 경로 모두 문서에 먼저 나온 발행일 meta(name=date)를 쓴다
+        assertThat(fast.getPostDate()).isEqualTo(dom.getPostDate())
+                .isEqualTo(PostDates.parse("2025-10-16 08:00:00"));
+    }
+
+    @Test
+    void bothPathsFallBackToJsonLdDatePublished() throws Exception {
+        String html = """
+                <html><head><meta property="og:title" content="제목"></head><body>
+                <div id="harmonyContainer"><section><p>%s</p></section></div>
+                <script type="application/ld+json">{"@type":"NewsArticle","datePublished":"2025-10-16T09:30:12+09:00",
+                "articleBody":"%s"}</script>
+                </body></html>
+                """.formatted(BODY, BODY);
+        FetchedPage page = new FetchedPage(URL, html.getBytes(StandardCharsets.UTF_8), "UTF-8");
+
+        News fast = daum.parseFast(page, "economy");
+        News dom = daum.parse(page.parse(), "economy");
+
+        assertThat(fast.getPostDate()).isNotNull().isEqualTo(dom.getPostDate());
+    }
+
+    @Test
+    void fallsBackToDomWithoutJsonLdBody() throws Exception {
+        String html = """
+                <html><head><meta property="og:title" content="제목"></head><body>
+                <div id="harmonyContainer"><section><p>%s</p></section></div>
+                </body></html>
+                """.formatted(BODY);
+        FetchedPage page = new FetchedPage(URL, html.getBytes(StandardCharsets.UTF_8), "UTF-8");
+
+        assertThat(daum.parseFast(page, "economy")).isNull();
+        assertThat(daum.parse(page, "economy").getContent()).isEqualTo(BODY);
+    }
+}
@@ -0,0 +1,37 @@
+package com.exmaple.crawling;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class HostThrottleTest {
+
+    private final CrawlProperties props = new CrawlProperties();
+
+    @Test
+    void throttleHalvesRateOnThrottlingAndRecoversOnSuccess() {
+        CrawlProperties.HostLimit limit = new CrawlProperties.HostLimit();
+        limit.setRequestsPerSecond(4);
+        props.getFetch().getHosts().put("news.daum.net", limit);
+        HostThrottle throttle = new HostThrottle(props);
+        String url = "https://news.daum.net/economy";
+
+        throttle.onThrottled(url, 0);
+        assertThat(throttle.currentRate(url)).isEqualTo(2.0);
+
+        for (int i = 0; i < 100; i++) throttle.onSuccess(url);
+        assertThat(throttle.currentRate(url)).isEqualTo(4.0);
+    }
+
+    @Test
+    void firstThrottleBacksOffAndBurstDecreasesOnce() {
+        props.getFetch().getDefaults().setRequestsPerSecond(8);
+        HostThrottle throttle = new HostThrottle(props);
+        String url = "https://n.news.naver.com/mnews/article/001/1";
+
+        // 새 호스트의 첫 429도 바로 반영되고, 같은 순간 몰려온 429들은 한 번만 줄인다
+        for (int i = 0; i < 5; i++) throttle.onThrottled(url, 0);
+
+        assertThat(throttle.currentRate(url)).isEqualTo(4.0);
+    }
+}
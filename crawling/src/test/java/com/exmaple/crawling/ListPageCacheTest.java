@@ -0,0 +1,81 @@
+package com.exmaple.crawling;
+
+import com.sun.net.httpserver.HttpServer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.net.InetSocketAddress;
+import java.net.http.HttpClient;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ListPageCacheTest {
+    private HttpServer server;
+
+    @AfterEach
+    void stop() {
+        if (server != null) server.stop(0);
+    }
+
+    private static FetchedPage page(String url, int size) {
+        return new FetchedPage(url, new byte[size], "UTF-8");
+    }
+
+    @Test
+    void evictsLeastRecentlyUsedOverByteBudget() {
+        CrawlProperties props = new CrawlProperties();
+        props.getListCache().setMaxBytes(250);
+        ListPageCache cache = new ListPageCache(props);
+
+        cache.put("a", "\"1\"", null, page("a", 100));
+        cache.put("b", "\"1\"", null, page("b", 100));
+        cache.get("a"); // a를 최근 사용으로
+        cache.put("c", null, "Thu, 16 Oct 2025 00:00:00 GMT", page("c", 100));
+        cache.put("d", null, null, page("d", 10)); // 검증자 없음 → 저장 안 함
+
+        assertThat(cache.get("b")).isNull();
+        assertThat(cache.get("a")).isNotNull();
+        assertThat(cache.get("c")).isNotNull();
+        assertThat(cache.get("d")).isNull();
+        assertThat(cache.bytes()).isEqualTo(200);
+    }
+
+    @Test
+    void revalidatesWithEtagAndServes304FromCache() throws Exception {
+        AtomicInteger full = new AtomicInteger();
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/economy", ex -> {
+            if ("\"v1\"".equals(ex.getRequestHeaders().getFirst("If-None-Match"))) {
+                ex.sendResponseHeaders(304, -1);
+            } else {
+                byte[] body = "<a href=\"/v/1\">기사</a>".getBytes(StandardCharsets.UTF_8);
+                full.incrementAndGet();
+                ex.getResponseHeaders().add("ETag", "\"v1\"");
+                ex.getResponseHeaders().add("Content-Type", "text/html; charset=UTF-8");
+                ex.sendResponseHeaders(200, body.length);
+                ex.getResponseBody().write(body);
+            }
+            ex.close();
+        });
+        server.start();
+
+        CrawlProperties props = new CrawlProperties();
+        props.getHttp().setHttp2(false);
+        props.getFetch().getDefaults().setRequestsPerSecond(0);
+        PageFetcher fetcher = new PageFetcher(new HostThrottle(props), HttpClient.newHttpClient(), props,
+                new RetryPolicy(props), new BandwidthLimiter(props), new CrawlArchive(props), new ListPageCache(props),
+                new CrawlMetrics(new SimpleMeterRegistry()));
+        String url = "http://127.0.0.1:" + server.getAddress().getPort() + "/economy";
+
+        PageFetcher.ListPage first = fetcher.fetchList(url, 2000);
+        PageFetcher.ListPage second = fetcher.fetchList(url, 2000);
+
+        assertThat(first.notModified()).isFalse();
+        assertThat(second.notModified()).isTrue();
+        assertThat(second.page().parse().select("a").attr("abs:href")).endsWith("/v/1");
+        assertThat(full).hasValue(1);
+    }
+}
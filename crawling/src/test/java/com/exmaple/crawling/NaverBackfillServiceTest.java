@@ -0,0 +1,126 @@
+package com.exmaple.crawling;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.contains;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class NaverBackfillServiceTest {
+    private static final LocalDate DAY = LocalDate.of(2025, 10, 1);
+    private static final String ARTICLE = "https://n.news.naver.com/mnews/article/001/000000000";
+
+    private final CrawlProperties props = new CrawlProperties();
+    private final PageFetcher fetcher = mock(PageFetcher.class);
+    private final NewsWriter writer = mock(NewsWriter.class);
+    private final BackfillCheckpoints checkpoints = mock(BackfillCheckpoints.class);
+    private final NaverExtractor naver = new NaverExtractor();
+
+    /** NewsService는 목록 요청과 기사 추출만 빌려 쓰므로 그 둘만 fetcher/extractor로 이어 둔다 */
+    private NaverBackfillService service() throws Exception {
+        CrawlPipeline pipeline = new CrawlPipeline(fetcher, writer, props, new CrawlMetrics(new SimpleMeterRegistry()));
+        CrawlFrontier frontier = new CrawlFrontier(mock(NewsRepository.class), props);
+        NewsService news = mock(NewsService.class);
+        when(news.fetchList(anyString(), anyInt(), anyString(), anyString()))
+                .thenAnswer(inv -> fetcher.fetchList(inv.getArgument(0), inv.getArgument(1)));
+        when(news.articleParser(any(), anyString())).thenAnswer(inv -> {
+            SiteExtractor ex = inv.getArgument(0);
+            String category = inv.getArgument(1);
+            return (CrawlPipeline.ArticleParser) page -> ex.parse(page, category);
+        });
+        return new NaverBackfillService(news, pipeline, frontier, naver, checkpoints, props);
+    }
+
+    private static BackfillPartition partition(String category, int nextPage, BackfillPartition.Status status) {
+        BackfillPartition p = new BackfillPartition();
+        p.setSource("naver");
+        p.setCategory(category);
+        p.setListDate(DAY);
+        p.setNextPage(nextPage);
+        p.setStatus(status);
+        return p;
+    }
+
+    private static FetchedPage html(String url, String body) {
+        return new FetchedPage(url, body.getBytes(StandardCharsets.UTF_8), "UTF-8");
+    }
+
+    @Test
+    void resumesFromCheckpointSkipsDonePartitionsAndRecordsFailures() throws Exception {
+        BackfillPartition resumed = partition("economy", 3, BackfillPartition.Status.FAILED);
+        BackfillPartition done = partition("world", 5, BackfillPartition.Status.DONE);
+        BackfillPartition broken = partition("politics", 1, BackfillPartition.Status.PENDING);
+        when(checkpoints.open(eq("naver"), any(), eq(DAY), eq(DAY))).thenReturn(List.of(resumed, done, broken));
+
+        String economyPage3 = naver.listUrl("economy", DAY, 3);
+        String economyPage4 = naver.listUrl("economy", DAY, 4);
+        String list = "<a href=\"" + ARTICLE + "1\">1</a><a href=\"" + ARTICLE + "2\">2</a>";
+        when(fetcher.fetchList(eq(economyPage3), anyInt()))
+                .thenReturn(new PageFetcher.ListPage(html(economyPage3, list), false));
+        // 범위를 넘긴 페이지: 같은 목록 반복 → 끝
+        when(fetcher.fetchList(eq(economyPage4), anyInt()))
+                .thenReturn(new PageFetcher.ListPage(html(economyPage4, list), false));
+        when(fetcher.fetchList(eq(naver.listUrl("politics", DAY, 1)), anyInt()))
+                .thenThrow(new IOException("list down"));
+        when(fetcher.fetch(anyString(), anyInt())).thenAnswer(inv -> html(inv.getArgument(0),
+                "<meta property=\"og:title\" content=\"제목\"><div id=\"dic_area\">본문</div>"));
+        AtomicLong ids = new AtomicLong();
+        when(writer.saveAll(any())).thenAnswer(inv -> {
+            List<News> batch = inv.getArgument(0);
+            return batch.stream().map(n -> ids.incrementAndGet()).toList();
+        });
+
+        List<Long> saved = service().backfill(Set.of("economy", "world", "politics"), DAY, DAY, CrawlListener.NONE);
+
+        assertThat(saved).hasSize(2);
+        verify(fetcher, never()).fetchList(eq(naver.listUrl("economy", DAY, 1)), anyInt());
+        verify(fetcher, never()).fetchList(contains("sid1=104"), anyInt()); // world는 이미 끝남
+        verify(checkpoints).pageDone(resumed, 4, 2);
+        verify(checkpoints).finish(resumed, BackfillPartition.Status.DONE, null);
+        verify(checkpoints).finish(broken, BackfillPartition.Status.FAILED, "list down");
+        verify(checkpoints, never()).finish(eq(done), any(), isNull());
+    }
+
+    @Test
+    void pageWithFailedArticlesIsNotCheckpointed() throws Exception {
+        BackfillPartition p = partition("economy", 1, BackfillPartition.Status.PENDING);
+        when(checkpoints.open(eq("naver"), any(), eq(DAY), eq(DAY))).thenReturn(List.of(p));
+
+        String page1 = naver.listUrl("economy", DAY, 1);
+        when(fetcher.fetchList(eq(page1), anyInt())).thenReturn(new PageFetcher.ListPage(
+                html(page1, "<a href=\"" + ARTICLE + "1\">1</a><a href=\"" + ARTICLE + "2\">2</a>"), false));
+        when(fetcher.fetch(anyString(), anyInt())).thenAnswer(inv -> {
+            String url = inv.getArgument(0);
+            if (url.endsWith("2")) throw new IOException("circuit open for n.news.naver.com");
+            return html(url, "<meta property=\"og:title\" content=\"제목\"><div id=\"dic_area\">본문</div>");
+        });
+        when(writer.saveAll(any())).thenAnswer(inv -> {
+            List<News> batch = inv.getArgument(0);
+            return batch.stream().map(n -> 1L).toList();
+        });
+
+        List<Long> saved = service().backfill(Set.of("economy"), DAY, DAY, CrawlListener.NONE);
+
+        // 저장된 1건은 남기고, 페이지는 끝난 것으로 치지 않는다 → 다음 실행이 page 1부터 실패한 기사만 다시
+        assertThat(saved).hasSize(1);
+        verify(checkpoints, never()).pageDone(any(), anyInt(), anyInt());
+        verify(checkpoints).finish(p, BackfillPartition.Status.FAILED, "1 of 2 articles failed on " + page1);
+        verify(fetcher, never()).fetchList(eq(naver.listUrl("economy", DAY, 2)), anyInt());
+    }
+}
@@ -0,0 +1,40 @@
+package com.exmaple.crawling;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class NewsBodyTest {
+
+    @Test
+    void contentSplitsIntoBodyAndImagesAndRebuilds() {
+        News n = new News();
+        n.setContent("첫 문단\n\n둘째 문단\n\n[IMAGES]\nhttps://img.example/a.jpg\nhttps://img.example/b.jpg");
+
+        assertThat(n.getBodyText()).isEqualTo("첫 문단\n\n둘째 문단");
+        assertThat(n.getImages()).containsExactly("https://img.example/a.jpg", "https://img.example/b.jpg");
+        assertThat(n.getContent()).isEqualTo("첫 문단\n\n둘째 문단\n\n[IMAGES]\nhttps://img.example/a.jpg\nhttps://img.example/b.jpg");
+
+        n.setContent("이미지 없는 본문");
+        assertThat(n.getImages()).isEmpty();
+        assertThat(n.getContent()).isEqualTo("이미지 없는 본문");
+
+        News linked = new News();
+        linked.setImages(List.of());
+        assertThat(linked.getContent()).isNull();
+    }
+
+    @Test
+    void bodyIsStoredCompressed() {
+        String text = "한국은행은 16일 기준금리를 연 3.50%로 동결했다. ".repeat(40);
+        DeflateConverter converter = new DeflateConverter();
+
+        byte[] stored = converter.convertToDatabaseColumn(text);
+        assertThat(stored.length).isLessThan(text.getBytes(StandardCharsets.UTF_8).length / 4);
+        assertThat(converter.convertToEntityAttribute(stored)).isEqualTo(text);
+        assertThat(converter.convertToDatabaseColumn(null)).isNull();
+    }
+}
@@ -0,0 +1,127 @@
+package com.exmaple.crawling;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/** 내장 H2에서 덤프 필터·줄 형식·묶음별 이미지·gzip을 확인한다. fetchSize 2라 기사 3건이 두 묶음으로 나뉜다 */
+@DataJpaTest(properties = "crawler.export.fetch-size=2")
+@Import(NewsExporter.class)
+@EnableConfigurationProperties(CrawlProperties.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class NewsExporterTest {
+    private final ObjectMapper mapper = new ObjectMapper();
+
+    @Autowired
+    NewsExporter exporter;
+    @Autowired
+    NewsRepository repo;
+    @Autowired
+    PlatformTransactionManager tx;
+    @Autowired
+    EntityManager em;
+
+    private List<News> stored;
+
+    @BeforeEach
+    void setUp() {
+        stored = new TransactionTemplate(tx).execute(s -> {
+            em.createNativeQuery("delete from news_image").executeUpdate();
+            em.createQuery("delete from News").executeUpdate();
+            em.createQuery("delete from NewsBody").executeUpdate();
+            return repo.saveAll(List.of(
+                    news(1, LocalDateTime.of(2025, 10, 14, 9, 0), "https://img.example/1a.jpg", "https://img.example/1b.jpg"),
+                    news(2, LocalDateTime.of(2025, 10, 15, 9, 0), "https://img.example/2a.jpg"),
+                    news(3, LocalDateTime.of(2025, 10, 16, 9, 0))));
+        });
+    }
+
+    private static News news(int n, LocalDateTime postDate, String... images) {
+        News news = new News();
+        news.setTitle("제목 " + n);
+        news.setBodyText("본문 " + n);
+        news.setImages(List.of(images));
+        news.setPostDate(postDate);
+        news.setCategory("economy");
+        news.setSource("daum");
+        news.setSourceUrl("https://v.daum.net/v/" + n);
+        return news;
+    }
+
+    private String export(Long sinceId, LocalDateTime since) throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        exporter.export(sinceId, since, out);
+        return out.toString(StandardCharsets.UTF_8);
+    }
+
+    private List<JsonNode> lines(String ndjson) throws Exception {
+        List<JsonNode> rows = new ArrayList<>();
+        for (String line : ndjson.split("\n")) rows.add(mapper.readTree(line));
+        return rows;
+    }
+
+    @Test
+    void writesOneObjectPerLineWithImagesJoinedPerChunk() throws Exception {
+        String ndjson = export(null, null);
+
+        assertThat(ndjson).endsWith("\n");
+        assertThat(ndjson.split("\n")).hasSize(3);
+        List<JsonNode> rows = lines(ndjson);
+        assertThat(rows).extracting(r -> r.get("id").asLong()).containsExactly(
+                stored.get(0).getId(), stored.get(1).getId(), stored.get(2).getId());
+        assertThat(rows.get(0).get("content").asText()).isEqualTo("본문 1");
+        assertThat(rows.get(0).get("images")).extracting(JsonNode::asText)
+                .containsExactly("https://img.example/1a.jpg", "https://img.example/1b.jpg");
+        assertThat(rows.get(1).get("images")).extracting(JsonNode::asText).containsExactly("https://img.example/2a.jpg");
+        assertThat(rows.get(2).get("images")).isEmpty(); // 두 번째 묶음
+        assertThat(rows.get(2).get("postDate").asText()).isEqualTo("2025-10-16T09:00");
+    }
+
+    @Test
+    void filtersBySinceIdAndPostDate() throws Exception {
+        long first = stored.get(0).getId();
+        long second = stored.get(1).getId();
+
+        assertThat(lines(export(first, null))).extracting(r -> r.get("sourceUrl").asText())
+                .containsExactly("https://v.daum.net/v/2", "https://v.daum.net/v/3");
+        assertThat(lines(export(null, LocalDateTime.of(2025, 10, 15, 9, 0)))).extracting(r -> r.get("sourceUrl").asText())
+                .containsExactly("https://v.daum.net/v/2", "https://v.daum.net/v/3");
+        assertThat(lines(export(second, LocalDateTime.of(2025, 10, 15, 0, 0)))).extracting(r -> r.get("sourceUrl").asText())
+                .containsExactly("https://v.daum.net/v/3");
+        assertThat(exporter.export(stored.get(2).getId(), null, new ByteArrayOutputStream())).isZero();
+    }
+
+    @Test
+    void gzipOutputDecodesToSameNdjson() throws Exception {
+        ByteArrayOutputStream zipped = new ByteArrayOutputStream();
+        try (GZIPOutputStream gz = new GZIPOutputStream(zipped)) { // NewsController.export와 같은 방식
+            exporter.export(null, null, gz);
+        }
+
+        try (InputStream in = new GZIPInputStream(new ByteArrayInputStream(zipped.toByteArray()))) {
+            assertThat(new String(in.readAllBytes(), StandardCharsets.UTF_8)).isEqualTo(export(null, null));
+        }
+    }
+}
@@ -0,0 +1,19 @@
+package com.exmaple.crawling;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class NewsReaderTest {
+
+    @Test
+    void keysetCursorRoundTrips() {
+        NewsReader.Cursor c = new NewsReader.Cursor(LocalDateTime.of(2025, 10, 16, 15, 5), 1234L);
+        assertThat(NewsReader.Cursor.decode(c.encode())).isEqualTo(c);
+        assertThat(NewsReader.Cursor.decode(null)).isNull();
+        assertThatThrownBy(() -> NewsReader.Cursor.decode("not-a-cursor")).isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,173 @@
+package com.exmaple.crawling;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.jsoup.nodes.Document;
+import org.jsoup.nodes.Element;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class NewsServiceTest {
+    private static final String LIST = "https://news.test/";
+    private static final String ARTICLE = "https://news.test/v/";
+
+    private final CrawlProperties props = new CrawlProperties();
+    private final PageFetcher fetcher = mock(PageFetcher.class);
+    private final NewsWriter writer = mock(NewsWriter.class);
+    private final NewsRepository repo = mock(NewsRepository.class);
+    private final CrawlWatermarks watermarks = mock(CrawlWatermarks.class);
+    private final AtomicLong ids = new AtomicLong();
+
+    private NewsService service(Set<String> categories) throws Exception {
+        CrawlMetrics metrics = new CrawlMetrics(new SimpleMeterRegistry());
+        CrawlPipeline pipeline = new CrawlPipeline(fetcher, writer, props, metrics);
+        CrawlFrontier frontier = new CrawlFrontier(repo, props); // 예열 전이라 매번 DB(repo)로 확인
+        SiteExtractorRegistry extractors = new SiteExtractorRegistry(List.of(new StubExtractor(categories)));
+        when(fetcher.fetch(anyString(), anyInt())).thenAnswer(inv -> html(inv.getArgument(0), "<title>기사</title>"));
+        when(writer.saveAll(any())).thenAnswer(inv -> {
+            List<News> batch = inv.getArgument(0);
+            return batch.stream().map(n -> ids.incrementAndGet()).toList();
+        });
+        return new NewsService(fetcher, pipeline, frontier, watermarks, extractors,
+                mock(CrawlArchive.class), mock(NearDuplicateDetector.class), metrics);
+    }
+
+    private void listPage(String url, String next, int... articles) throws Exception {
+        StringBuilder body = new StringBuilder();
+        for (int a : articles) body.append("<a class=\"article\" href=\"").append(ARTICLE).append(a).append("\">").append(a).append("</a>");
+        if (next != null) body.append("<a class=\"next\" href=\"").append(next).append("\">다음</a>");
+        when(fetcher.fetchList(eq(url), anyInt())).thenReturn(new PageFetcher.ListPage(html(url, body.toString()), false));
+    }
+
+    private static FetchedPage html(String url, String body) {
+        return new FetchedPage(url, body.getBytes(StandardCharsets.UTF_8), "UTF-8");
+    }
+
+    @Test
+    void incrementalStopsAtWatermarkPageAndAdvancesToNewest() throws Exception {
+        NewsService service = service(Set.of("economy"));
+        when(watermarks.lastUrl("test", "economy")).thenReturn(ARTICLE + 2);
+        listPage(LIST + "economy", LIST + "economy/2", 5, 4);
+        listPage(LIST + "economy/2", LIST + "economy/3", 3, 2, 1);
+
+        List<Long> saved = service.crawl("test", "economy", 10, true, CrawlListener.NONE);
+
+        assertThat(saved).hasSize(3);
+        verify(fetcher, never()).fetch(eq(ARTICLE + 2), anyInt());
+        verify(fetcher, never()).fetch(eq(ARTICLE + 1), anyInt());
+        verify(fetcher, never()).fetchList(eq(LIST + "economy/3"), anyInt());
+        verify(watermarks).advance("test", "economy", ARTICLE + 5);
+    }
+
+    @Test
+    void incrementalStopsOnPageWithoutUnknownLinks() throws Exception {
+        NewsService service = service(Set.of("economy"));
+        listPage(LIST + "economy", LIST + "economy/2", 4, 3);
+        listPage(LIST + "economy/2", LIST + "economy/3", 2, 1);
+        when(repo.findExistingSourceUrls(List.of(ARTICLE + 2, ARTICLE + 1))).thenReturn(List.of(ARTICLE + 2, ARTICLE + 1));
+
+        List<Long> saved = service.crawl("test", "economy", 10, true, CrawlListener.NONE);
+
+        assertThat(saved).hasSize(2);
+        verify(fetcher, never()).fetch(eq(ARTICLE + 1), anyInt());
+        verify(fetcher, never()).fetchList(eq(LIST + "economy/3"), anyInt());
+        verify(watermarks).advance("test", "economy", ARTICLE + 4);
+    }
+
+    @Test
+    void runStoppedAtWantKeepsWatermark() throws Exception {
+        NewsService service = service(Set.of("economy"));
+        when(watermarks.lastUrl("test", "economy")).thenReturn(ARTICLE + 1);
+        listPage(LIST + "economy", null, 3, 2, 1);
+
+        List<Long> saved = service.crawl("test", "economy", 1, true, CrawlListener.NONE);
+
+        // 3, 2 중 하나만 저장 → 남은 기사는 다음 실행이 같은 워터마크부터 다시 본다
+        assertThat(saved).hasSize(1);
+        verify(watermarks, never()).advance(anyString(), anyString(), anyString());
+    }
+
+    @Test
+    void crawlAllReportsEachPairAndKeepsGoingWhenOneFails() throws Exception {
+        NewsService service = service(Set.of("economy", "politics", "world"));
+        listPage(LIST + "economy", null, 1, 2);
+        listPage(LIST + "politics", null, 3, 4);
+        listPage(LIST + "world", null, 5);
+        when(watermarks.lastUrl("test", "politics")).thenThrow(new IllegalStateException("watermark store down"));
+
+        List<CrawlPairResult> results = new ArrayList<>(service.crawlAll(10, true, CrawlListener.NONE));
+        results.sort(Comparator.comparing(CrawlPairResult::category));
+
+        assertThat(results).extracting(CrawlPairResult::source, CrawlPairResult::category,
+                        CrawlPairResult::saved, CrawlPairResult::error)
+                .containsExactly(
+                        tuple("test", "economy", 2, null),
+                        tuple("test", "politics", 0, "watermark store down"),
+                        tuple("test", "world", 1, null));
+        assertThat(results.get(0).savedIds()).hasSize(2);
+        assertThat(results.get(1).savedIds()).isEmpty();
+        verify(fetcher, never()).fetchList(eq(LIST + "politics"), anyInt());
+    }
+
+    /** 목록: a.article 링크 + a.next, 기사: title만 있으면 저장 */
+    private static final class StubExtractor implements SiteExtractor {
+        private final Set<String> categories;
+
+        StubExtractor(Set<String> categories) {
+            this.categories = new LinkedHashSet<>(categories);
+        }
+
+        @Override
+        public String source() {
+            return "test";
+        }
+
+        @Override
+        public Set<String> categories() {
+            return categories;
+        }
+
+        @Override
+        public String firstListUrl(String category) {
+            return LIST + category;
+        }
+
+        @Override
+        public List<String> extractLinks(Document list) {
+            return list.select("a.article").eachAttr("abs:href");
+        }
+
+        @Override
+        public String nextListUrl(Document list, String currentUrl, int page, boolean foundNew) {
+            Element next = list.selectFirst("a.next");
+            return next == null ? null : next.attr("abs:href");
+        }
+
+        @Override
+        public News parse(Document doc, String category) {
+            News n = new News();
+            n.setTitle(doc.title());
+            n.setBodyText("본문");
+            n.setCategory(category);
+            n.setSource(source());
+            return n;
+        }
+    }
+}
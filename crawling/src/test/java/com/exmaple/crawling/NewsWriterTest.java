@@ -0,0 +1,106 @@
+package com.exmaple.crawling;
+
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.when;
+
+/** 내장 H2에서 배치 저장이 롤백된 뒤 한 건씩 다시 저장하는 경로를 확인한다 (CrawlPipeline.flush와 같은 순서) */
+@DataJpaTest
+@Import(NewsWriter.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class NewsWriterTest {
+    @MockitoBean
+    CrawlFrontier frontier;
+    @MockitoBean
+    NearDuplicateDetector dedup;
+    @MockitoBean
+    SearchIndex search;
+    @MockitoBean
+    CrawlMetrics metrics;
+
+    @Autowired
+    NewsWriter writer;
+    @Autowired
+    NewsRepository repo;
+    @Autowired
+    PlatformTransactionManager tx;
+    @Autowired
+    EntityManager em;
+
+    @BeforeEach
+    void clean() {
+        new TransactionTemplate(tx).executeWithoutResult(s -> {
+            em.createNativeQuery("delete from news_image").executeUpdate();
+            em.createQuery("delete from News").executeUpdate();
+            em.createQuery("delete from NewsBody").executeUpdate();
+        });
+    }
+
+    private static News news(String url, String body) {
+        News n = new News();
+        n.setTitle("제목");
+        n.setSource("daum");
+        n.setCategory("economy");
+        n.setSourceUrl(url);
+        n.setBodyText(body);
+        n.setImages(List.of("https://img.example/a.jpg"));
+        return n;
+    }
+
+    @Test
+    void failedBatchFallsBackToOneRowAtATime() {
+        writer.save(news("https://v.daum.net/v/taken", "먼저 저장된 기사"));
+
+        News fresh = news("https://v.daum.net/v/1", "새 기사 본문");
+        News clash = news("https://v.daum.net/v/taken", "같은 URL을 다른 스레드가 먼저 저장");
+        List<News> batch = List.of(fresh, clash);
+        assertThatThrownBy(() -> writer.saveAll(batch)).isInstanceOf(DataIntegrityViolationException.class);
+        assertThat(fresh.getBody().getId()).isNotNull(); // 실패한 persist가 cascade로 본문 id를 받아 둔 상태
+
+        fresh.resetForRetry();
+        Long id = writer.save(fresh);
+        clash.resetForRetry();
+        assertThatThrownBy(() -> writer.save(clash)).isInstanceOf(DataIntegrityViolationException.class);
+
+        assertThat(id).isNotNull();
+        new TransactionTemplate(tx).executeWithoutResult(s -> {
+            News stored = repo.findById(id).orElseThrow();
+            assertThat(stored.getBodyText()).isEqualTo("새 기사 본문");
+            assertThat(stored.getImages()).containsExactly("https://img.example/a.jpg");
+        });
+        assertThat(repo.count()).isEqualTo(2);
+    }
+
+    @Test
+    void nearDuplicateIsStoredAsLinkSoItsUrlStaysKnown() {
+        Long original = writer.save(news("https://v.daum.net/v/original", "원본 기사 본문"));
+        News copy = news("https://n.news.naver.com/mnews/article/001/1", "거의 같은 본문");
+        copy.setSimhash(1L);
+        when(dedup.findDuplicate(copy)).thenReturn(original);
+
+        Long id = writer.save(copy);
+
+        // 행이 남아야 다음 수집에서 프런티어(sourceUrl 유니크 인덱스)가 이 URL을 건너뛴다
+        assertThat(repo.findExistingSourceUrls(List.of(copy.getSourceUrl()))).containsExactly(copy.getSourceUrl());
+        new TransactionTemplate(tx).executeWithoutResult(s -> {
+            News stored = repo.findById(id).orElseThrow();
+            assertThat(stored.getDuplicateOf()).isEqualTo(original);
+            assertThat(stored.getBodyText()).isNull();
+        });
+    }
+}
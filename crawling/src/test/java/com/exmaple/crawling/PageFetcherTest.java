@@ -0,0 +1,103 @@
+package com.exmaple.crawling;
+
+import com.sun.net.httpserver.HttpServer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.jsoup.HttpStatusException;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.net.InetSocketAddress;
+import java.net.http.HttpClient;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+class PageFetcherTest {
+    private final CrawlProperties props = new CrawlProperties();
+    private HttpServer server;
+    @TempDir
+    Path dir;
+
+    @AfterEach
+    void stop() {
+        if (server != null) server.stop(0);
+    }
+
+    private PageFetcher fetcher(HostThrottle throttle, HttpClient http) {
+        return new PageFetcher(throttle, http, props, new RetryPolicy(props), new BandwidthLimiter(props),
+                new CrawlArchive(props), new ListPageCache(props), new CrawlMetrics(new SimpleMeterRegistry()));
+    }
+
+    @Test
+    void interruptedHalfOpenTrialDoesNotWedgeBreaker() throws Exception {
+        props.getFetch().getDefaults().setRequestsPerSecond(0);
+        props.getCircuit().setFailureThreshold(1);
+        props.getCircuit().setOpenMillis(0);
+        HttpClient http = mock(HttpClient.class);
+        when(http.send(any(), any())).thenThrow(new InterruptedException());
+        HostThrottle throttle = new HostThrottle(props);
+        String url = "https://v.daum.net/v/1";
+        CircuitBreaker breaker = throttle.breaker(url);
+        breaker.onFailure();
+        assertThat(breaker.state()).isEqualTo(CircuitBreaker.State.OPEN);
+
+        // 시험 요청이 인터럽트로 끝나도 (파이프라인 shutdownNow, 작업 취소) 다음 요청이 다시 시험할 수 있어야 한다
+        assertThatThrownBy(() -> fetcher(throttle, http).fetch(url, 1000)).isInstanceOf(InterruptedException.class);
+
+        assertThat(breaker.state()).isEqualTo(CircuitBreaker.State.HALF_OPEN);
+        assertThat(breaker.check("v.daum.net")).isTrue();
+    }
+
+    @Test
+    void redirectedPageResolvesAgainstFinalUrlButKeepsRequestedUrl() throws Exception {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/v/1", ex -> {
+            ex.getResponseHeaders().add("Location", "/news/2025/v1.html");
+            ex.sendResponseHeaders(301, -1);
+            ex.close();
+        });
+        server.createContext("/news/2025/v1.html", ex -> {
+            byte[] body = "<img src=\"img/a.jpg\"><a href=\"../list\">목록</a>".getBytes(StandardCharsets.UTF_8);
+            ex.sendResponseHeaders(200, body.length);
+            ex.getResponseBody().write(body);
+            ex.close();
+        });
+        server.start();
+        props.getFetch().getDefaults().setRequestsPerSecond(0);
+        HttpClient http = HttpClient.newBuilder().followRedirects(HttpClient.Redirect.NORMAL).build();
+        String base = "http://127.0.0.1:" + server.getAddress().getPort();
+
+        FetchedPage page = fetcher(new HostThrottle(props), http).fetch(base + "/v/1", 2000);
+
+        assertThat(page.url()).isEqualTo(base + "/v/1"); // 프런티어·sourceUrl은 요청한 URL로
+        assertThat(page.location()).isEqualTo(base + "/news/2025/v1.html");
+        assertThat(page.parse().selectFirst("img").attr("abs:src")).isEqualTo(base + "/news/2025/img/a.jpg");
+        assertThat(fetcher(new HostThrottle(props), http).fetchDocument(base + "/v/1", 2000)
+                .selectFirst("a").attr("abs:href")).isEqualTo(base + "/news/list");
+    }
+
+    @Test
+    void replayModeServesFetchesFromArchive() throws Exception {
+        props.getArchive().setDir(dir.toString());
+        props.getArchive().setMode(CrawlProperties.Archive.Mode.RECORD);
+        CrawlArchive writer = new CrawlArchive(props);
+        writer.append(CrawlArchive.Kind.ARTICLE, "naver", "economy", new FetchedPage(
+                "https://n.news.naver.com/mnews/article/001/1", "<p>본문</p>".getBytes(StandardCharsets.UTF_8), "UTF-8"));
+        writer.close();
+        props.getArchive().setMode(CrawlProperties.Archive.Mode.REPLAY);
+        HttpClient http = mock(HttpClient.class);
+        PageFetcher fetcher = fetcher(new HostThrottle(props), http);
+
+        assertThat(fetcher.fetchDocument("https://n.news.naver.com/mnews/article/001/1", 1000).text()).isEqualTo("본문");
+        assertThatThrownBy(() -> fetcher.fetch("https://n.news.naver.com/mnews/article/001/2", 1000))
+                .isInstanceOf(HttpStatusException.class);
+        verifyNoInteractions(http); // 리플레이는 네트워크를 타지 않는다
+    }
+}
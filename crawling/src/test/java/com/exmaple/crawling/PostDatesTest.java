@@ -0,0 +1,24 @@
+package com.exmaple.crawling;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PostDatesTest {
+    private static final LocalDateTime AT = LocalDateTime.of(2025, 10, 16, 15, 5);
+
+    @Test
+    void parsesPortalFormatsAsKoreanTime() {
+        assertThat(PostDates.parse("2025-10-16T15:05:00+09:00")).isEqualTo(AT);
+        assertThat(PostDates.parse("2025-10-16T06:05:00Z")).isEqualTo(AT);
+        assertThat(PostDates.parse("2025-10-16T15:05:00")).isEqualTo(AT);
+        assertThat(PostDates.parse("2025-10-16T15:05")).isEqualTo(AT);
+        assertThat(PostDates.parse("2025-10-16 15:05:00")).isEqualTo(AT);
+        assertThat(PostDates.parse("입력 2025. 10. 16. 15:05")).isEqualTo(AT);
+        assertThat(PostDates.parse("2025.10.16. 오후 3:05")).isEqualTo(AT);
+        assertThat(PostDates.parse("2025.10.16. 오전 12:30")).isEqualTo(LocalDateTime.of(2025, 10, 16, 0, 30));
+        assertThat(PostDates.parse("어제")).isNull();
+    }
+}
@@ -0,0 +1,34 @@
+package com.exmaple.crawling;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RetryPolicyTest {
+
+    private final CrawlProperties props = new CrawlProperties();
+
+    @Test
+    void backoffIsJitteredAndCapped() {
+        props.getRetry().setBaseDelayMillis(100);
+        props.getRetry().setMaxDelayMillis(1_000);
+        RetryPolicy policy = new RetryPolicy(props);
+
+        for (int i = 0; i < 100; i++) {
+            assertThat(policy.delayMillis(1, 0)).isBetween(0L, 100L);
+            assertThat(policy.delayMillis(3, 0)).isBetween(0L, 400L);
+            assertThat(policy.delayMillis(30, 0)).isBetween(0L, 1_000L);
+        }
+    }
+
+    @Test
+    void retryAfterWinsButIsBounded() {
+        props.getRetry().setMaxRetryAfterMillis(10_000);
+        RetryPolicy policy = new RetryPolicy(props);
+
+        assertThat(policy.delayMillis(1, RetryPolicy.parseRetryAfter("3"))).isEqualTo(3_000);
+        assertThat(policy.delayMillis(1, RetryPolicy.parseRetryAfter("3600"))).isEqualTo(10_000);
+        assertThat(RetryPolicy.parseRetryAfter("Wed, 21 Oct 2015 07:28:00 GMT")).isZero();
+        assertThat(RetryPolicy.parseRetryAfter("soon")).isZero();
+    }
+}
@@ -0,0 +1,115 @@
+package com.exmaple.crawling;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class SearchIndexTest {
+
+    @TempDir
+    Path dir;
+
+    private SearchIndex index(int flushDocs, int maxSegments) throws Exception {
+        SearchIndex index = new SearchIndex(props(flushDocs, maxSegments), null);
+        index.load();
+        return index;
+    }
+
+    private CrawlProperties props(int flushDocs, int maxSegments) {
+        CrawlProperties props = new CrawlProperties();
+        props.getSearch().setDir(dir.toString());
+        props.getSearch().setFlushDocs(flushDocs);
+        props.getSearch().setMaxSegments(maxSegments);
+        return props;
+    }
+
+    @Test
+    void tokenizerSplitsHangulIntoBigramsAndLatinIntoWords() {
+        assertThat(BigramTokenizer.tokens("기준금리를 AI로 동결"))
+                .containsOnlyKeys("기준", "준금", "금리", "리를", "ai", "로", "동결");
+    }
+
+    @Test
+    void ranksByRelevanceAcrossBufferAndSegments() throws Exception {
+        SearchIndex index = index(2, 8);
+        index.add(1, "반도체 수출 회복", "반도체 수출이 석 달째 늘었다. 반도체 업황 회복 기대가 커졌다.");
+        index.add(2, "기준금리 동결", "한국은행이 기준금리를 동결했다. 반도체 언급은 없었다.");
+        index.add(3, "날씨", "전국에 비가 내린다.");
+
+        assertThat(index.segmentCount()).isEqualTo(1); // 2건에서 한 번 내려가고 1건은 버퍼
+        assertThat(index.search("반도체", 10)).extracting(SearchIndex.Hit::id).containsExactly(1L, 2L);
+        assertThat(index.search("금리", 10)).extracting(SearchIndex.Hit::id).containsExactly(2L);
+        assertThat(index.search("비가", 10)).extracting(SearchIndex.Hit::id).containsExactly(3L);
+        assertThat(index.search("반도체", 1)).hasSize(1);
+    }
+
+    @Test
+    void reopensFromDiskAndNewerVersionReplacesOlder() throws Exception {
+        SearchIndex index = index(1, 8);
+        index.add(1, "증시 마감", "코스피가 상승 마감했다.");
+        index.add(2, "환율", "원달러 환율이 올랐다.");
+        index.add(1, "증시 마감", "코스피가 하락 마감했다."); // 재파싱으로 본문 변경
+
+        SearchIndex reopened = index(1, 8);
+        assertThat(reopened.documentCount()).isEqualTo(3); // 옛 버전은 병합 전까지 파일에 남는다
+        assertThat(reopened.search("상승", 10)).isEmpty();
+        assertThat(reopened.search("하락", 10)).extracting(SearchIndex.Hit::id).containsExactly(1L);
+        assertThat(reopened.search("환율", 10)).extracting(SearchIndex.Hit::id).containsExactly(2L);
+    }
+
+    @Test
+    void mergeDropsSupersededDocuments() throws Exception {
+        SearchIndex index = index(1, 1); // 매 flush마다 전부 병합
+        index.add(1, "첫 기사", "수출 지표 발표");
+        index.add(1, "첫 기사", "수입 지표 발표");
+        index.add(2, "둘째 기사", "수출 증가");
+
+        assertThat(index.segmentCount()).isEqualTo(1);
+        assertThat(index.documentCount()).isEqualTo(2);
+        assertThat(index.search("수출", 10)).extracting(SearchIndex.Hit::id).containsExactly(2L);
+        assertThat(index.search("수입", 10)).extracting(SearchIndex.Hit::id).containsExactly(1L);
+    }
+
+    @Test
+    void catchesUpAfterLastIndexedIdWhenDatabaseMatches() throws Exception {
+        SearchIndex index = index(1, 8);
+        index.add(1, "https://a/1", "증시 마감", "코스피가 상승 마감했다.");
+        index.add(2, "https://a/2", "환율", "원달러 환율이 올랐다.");
+
+        NewsRepository repo = mock(NewsRepository.class);
+        when(repo.existsByIdAndSourceUrl(2L, "https://a/2")).thenReturn(true);
+        when(repo.streamForIndex(2L)).thenReturn(Stream.of(new NewsText(3L, "https://a/3", "금리", "기준금리 동결")));
+        SearchIndex reopened = new SearchIndex(props(1, 8), repo);
+        reopened.openOrRebuild();
+
+        assertThat(reopened.search("상승", 10)).extracting(SearchIndex.Hit::id).containsExactly(1L);
+        assertThat(reopened.search("금리", 10)).extracting(SearchIndex.Hit::id).containsExactly(3L);
+    }
+
+    @Test
+    void rebuildsWhenDatabaseWasRecreated() throws Exception {
+        SearchIndex index = index(1, 8);
+        index.add(1, "https://a/1", "증시 마감", "코스피가 상승 마감했다.");
+        index.add(2, "https://a/2", "환율", "원달러 환율이 올랐다.");
+
+        // 스키마가 새로 만들어져 ID가 다시 1부터: 1번은 다른 기사
+        NewsRepository repo = mock(NewsRepository.class);
+        when(repo.existsByIdAndSourceUrl(anyLong(), any())).thenReturn(false);
+        when(repo.streamForIndex(0L)).thenReturn(Stream.of(new NewsText(1L, "https://b/1", "날씨", "전국에 비가 내린다.")));
+        SearchIndex reopened = new SearchIndex(props(1, 8), repo);
+        reopened.openOrRebuild();
+
+        assertThat(reopened.documentCount()).isEqualTo(1);
+        assertThat(reopened.search("상승", 10)).isEmpty();
+        assertThat(reopened.search("환율", 10)).isEmpty();
+        assertThat(reopened.search("비가", 10)).extracting(SearchIndex.Hit::id).containsExactly(1L);
+    }
+}
@@ -0,0 +1,52 @@
+package com.exmaple.crawling;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SimHashTest {
+    private static final String WIRE = """
+            한국은행 금융통화위원회는 16일 서울 중구 본관에서 통화정책방향 회의를 열고 기준금리를 연 3.50%로 동결했다.
+            이창용 총재는 기자간담회에서 물가 경로를 더 지켜봐야 한다며 가계부채 증가세와 환율 변동성에 유의하겠다고 말했다.
+            시장에서는 이번 결정이 예상과 대체로 부합한다는 평가가 나왔으며 연내 인하 가능성에 대한 전망은 엇갈렸다.
+            금통위는 의결문에서 국내 경제는 수출 호조가 이어지고 있으나 내수 회복세는 더딘 것으로 판단했다.
+            소비자물가 상승률은 석유류 가격 하락 영향으로 2%대 초반으로 낮아졌고 근원물가도 둔화 흐름을 보였다.
+            다만 수도권 주택가격 상승세와 가계대출 증가가 금융안정 측면의 위험 요인으로 지목됐다.
+            한은은 향후 성장과 물가, 금융안정 여건을 종합적으로 점검하면서 추가 인하 시기를 결정할 계획이라고 밝혔다.
+            """;
+
+    @Test
+    void sameStoryWithDifferentBylineIsNear() {
+        String daum = WIRE + "\n(서울=연합뉴스) 홍길동 기자";
+        String naver = WIRE.replace("\n", " ") + " 홍길동 기자 (서울=연합뉴스)";
+
+        long a = SimHash.of(daum, 100);
+        long b = SimHash.of(naver, 100);
+
+        assertThat(SimHash.distance(a, b)).isLessThanOrEqualTo(SimHashIndex.MAX_DISTANCE);
+    }
+
+    @Test
+    void differentStoryIsFar() {
+        String other = """
+                삼성전자는 16일 3분기 잠정 실적을 발표하고 영업이익이 시장 전망치를 웃돌았다고 밝혔다.
+                반도체 부문은 고대역폭메모리 판매 확대에 힘입어 흑자 폭을 키웠고 모바일 부문은 신제품 효과가 이어졌다.
+                증권가에서는 4분기에도 메모리 가격 상승세가 이어질 것으로 내다봤다.
+                """;
+        assertThat(SimHash.distance(SimHash.of(WIRE, 100), SimHash.of(other, 100))).isGreaterThan(10);
+        assertThat(SimHash.of("짧은 속보", 100)).isNull();
+    }
+
+    @Test
+    void bandedIndexFindsWithinThreeBits() {
+        SimHashIndex index = new SimHashIndex();
+        long fp = 0x0123_4567_89ab_cdefL;
+        index.add(fp, 42L);
+        index.add(~fp, 7L);
+
+        // 네 밴드에 한 비트씩 흩어 뒤집어도(거리 3) 한 밴드는 그대로라 찾는다
+        assertThat(index.find(fp ^ 1L ^ (1L << 20) ^ (1L << 40), 3)).isEqualTo(42L);
+        assertThat(index.find(fp ^ 1L ^ (1L << 20) ^ (1L << 40) ^ (1L << 60), 3)).isNull();
+        assertThat(index.size()).isEqualTo(2);
+    }
+}
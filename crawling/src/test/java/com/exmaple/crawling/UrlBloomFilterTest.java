@@ -0,0 +1,23 @@
+package com.exmaple.crawling;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class UrlBloomFilterTest {
+
+    @Test
+    void bloomFilterHasNoFalseNegatives() {
+        UrlBloomFilter bloom = new UrlBloomFilter(10_000, 0.01);
+        for (int i = 0; i < 10_000; i++) bloom.add("https://v.daum.net/v/" + i);
+
+        for (int i = 0; i < 10_000; i++) {
+            assertThat(bloom.mightContain("https://v.daum.net/v/" + i)).isTrue();
+        }
+        long falsePositives = IntStream.range(10_000, 20_000)
+                .filter(i -> bloom.mightContain("https://v.daum.net/v/" + i)).count();
+        assertThat(falsePositives).isLessThan(300);
+    }
+}
@@ -0,0 +1,24 @@
+package com.exmaple.crawling;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class UrlCanonicalizerTest {
+
+    @Test
+    void naverDesktopAndMobileCollapseToOneUrl() {
+        String desktop = "https://news.naver.com/main/read.naver?mode=LSD&mid=sec&sid1=101&oid=001&aid=0014567890";
+        String mobile = "https://n.news.naver.com/mnews/article/001/0014567890?sid=101";
+
+        assertThat(UrlCanonicalizer.canonical(desktop))
+                .isEqualTo("https://n.news.naver.com/mnews/article/001/0014567890")
+                .isEqualTo(UrlCanonicalizer.canonical(mobile));
+    }
+
+    @Test
+    void daumDropsQueryFragmentAndTrailingSlash() {
+        assertThat(UrlCanonicalizer.canonical("http://V.Daum.net/v/20251016093012345/?f=o#comment"))
+                .isEqualTo("https://v.daum.net/v/20251016093012345");
+    }
+}